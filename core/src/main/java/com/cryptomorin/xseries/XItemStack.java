@@ -58,12 +58,24 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.cryptomorin.xseries.XMaterial.supports;
@@ -179,24 +191,60 @@ public final class XItemStack {
         SUPPORTS_ITEM_NAME = supportsItemName;
     }
 
-    private interface MetaHandler<M extends ItemMeta> {
-        void handle(M meta);
+    /**
+     * The meta handlers registered for each metadata interface, and the flattened handler
+     * chain of each concrete metadata class (usually the {@code CraftMeta*} classes) which
+     * is computed once per class on first use, so handling the metadata of an item is just a loop.
+     * <p>
+     * Not using a {@link ClassValue} here, since the handler arrays reference this class, which
+     * would keep the plugin's class loader alive through the server's metadata classes.
+     */
+    private static final class MetaHandlers<T extends SerialObject> {
+        private final Map<Class<?>, BiConsumer<T, ItemMeta>> registered = new IdentityHashMap<>();
+        private final Map<Class<?>, BiConsumer<T, ItemMeta>[]> flattened = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private BiConsumer<T, ItemMeta>[] flatten(@NotNull Class<?> metaClass) {
+            // A set, because the same interface can be implemented multiple times in the hierarchy.
+            // For example: ColorableArmorMeta extends ArmorMeta, LeatherArmorMeta
+            Set<BiConsumer<T, ItemMeta>> handlers = new LinkedHashSet<>();
+            collect(metaClass, handlers);
+            return handlers.toArray(new BiConsumer[0]);
+        }
+
+        private void collect(Class<?> metaClass, Set<BiConsumer<T, ItemMeta>> handlers) {
+            BiConsumer<T, ItemMeta> handler = registered.get(metaClass);
+            if (handler != null) {
+                handlers.add(handler);
+                return;
+            }
+
+            Class<?> superclass = metaClass.getSuperclass();
+            if (superclass != null) collect(superclass, handlers);
+            for (Class<?> anInterface : metaClass.getInterfaces()) {
+                collect(anInterface, handlers);
+            }
+        }
+
+        private void handle(T serialObject, ItemMeta meta) {
+            // computeIfAbsent() always locks in Java 8, even if the value is present.
+            BiConsumer<T, ItemMeta>[] handlers = flattened.get(meta.getClass());
+            if (handlers == null) handlers = flattened.computeIfAbsent(meta.getClass(), this::flatten);
+
+            for (BiConsumer<T, ItemMeta> handler : handlers) {
+                handler.accept(serialObject, meta);
+            }
+        }
     }
 
-    private static final Map<Class<? extends ItemMeta>, Optional<Function<Deserializer, MetaHandler<ItemMeta>>>> DESERIALIZE_META_HANDLERS = new IdentityHashMap<>();
-    private static final Map<Class<? extends ItemMeta>, Optional<Function<Serializer, MetaHandler<ItemMeta>>>> SERIALIZE_META_HANDLERS = new IdentityHashMap<>();
+    private static final MetaHandlers<Deserializer> DESERIALIZE_META_HANDLERS = new MetaHandlers<>();
+    private static final MetaHandlers<Serializer> SERIALIZE_META_HANDLERS = new MetaHandlers<>();
 
     private static <M extends ItemMeta> void meta(Class<? extends M> clazz,
-                                                  Function<Deserializer, MetaHandler<M>> deserialize,
-                                                  Function<Serializer, MetaHandler<M>> serialize) {
-        DESERIALIZE_META_HANDLERS.put(
-                clazz,
-                Optional.of(cast(deserialize))
-        );
-        SERIALIZE_META_HANDLERS.put(
-                clazz,
-                Optional.of(cast(serialize))
-        );
+                                                  BiConsumer<Deserializer, M> deserialize,
+                                                  BiConsumer<Serializer, M> serialize) {
+        DESERIALIZE_META_HANDLERS.registered.put(clazz, cast(deserialize));
+        SERIALIZE_META_HANDLERS.registered.put(clazz, cast(serialize));
     }
 
     private static void onlyIf(String className, Runnable runnable) {
@@ -209,67 +257,26 @@ public final class XItemStack {
 
     static {
         // @formatter:off
-        meta(SkullMeta       .class, x -> x::handleSkullMeta,        x -> x::handleSkullMeta);
-        meta(LeatherArmorMeta.class, x -> x::handleLeatherArmorMeta, x -> x::handleLeatherArmorMeta);
-        meta(PotionMeta      .class, x -> x::handlePotionMeta,       x -> x::handlePotionMeta);
-        meta(BlockStateMeta  .class, x -> x::handleBlockStateMeta,   x -> x::handleBlockStateMeta);
-        meta(FireworkMeta    .class, x -> x::handleFireworkMeta,     x -> x::handleFireworkMeta);
-        meta(BookMeta        .class, x -> x::handleBookMeta,         x -> x::handleBookMeta);
-        meta(BannerMeta      .class, x -> x::handleBannerMeta,       x -> x::handleBannerMeta);
-        meta(MapMeta         .class, x -> x::handleMapMeta,          x -> x::handleMapMeta);
-        meta(EnchantmentStorageMeta.class, x -> x::handleEnchantmentStorageMeta,     x -> x::handleEnchantmentStorageMeta);
-
-        onlyIf("SpawnEggMeta",           () -> meta(SpawnEggMeta          .class, x -> x::handleSpawnEggMeta,           x -> x::handleSpawnEggMeta));
-        onlyIf("ArmorMeta",              () -> meta(ArmorMeta             .class, x -> x::handleArmorMeta,              x -> x::handleArmorMeta));
-        onlyIf("AxolotlBucketMeta",      () -> meta(AxolotlBucketMeta     .class, x -> x::handleAxolotlBucketMeta,      x -> x::handleAxolotlBucketMeta));
-        onlyIf("CompassMeta",            () -> meta(CompassMeta           .class, x -> x::handleCompassMeta,            x -> x::handleCompassMeta));
-        onlyIf("SuspiciousStewMeta",     () -> meta(SuspiciousStewMeta    .class, x -> x::handleSuspiciousStewMeta,     x -> x::handleSuspiciousStewMeta)); // Apparently Suspicious Stew was never added in 1.14
-        onlyIf("CrossbowMeta",           () -> meta(CrossbowMeta          .class, x -> x::handleCrossbowMeta,           x -> x::handleCrossbowMeta));
-        onlyIf("TropicalFishBucketMeta", () -> meta(TropicalFishBucketMeta.class, x -> x::handleTropicalFishBucketMeta, x -> x::handleTropicalFishBucketMeta));
+        meta(SkullMeta       .class, Deserializer::handleSkullMeta,        Serializer::handleSkullMeta);
+        meta(LeatherArmorMeta.class, Deserializer::handleLeatherArmorMeta, Serializer::handleLeatherArmorMeta);
+        meta(PotionMeta      .class, Deserializer::handlePotionMeta,       Serializer::handlePotionMeta);
+        meta(BlockStateMeta  .class, Deserializer::handleBlockStateMeta,   Serializer::handleBlockStateMeta);
+        meta(FireworkMeta    .class, Deserializer::handleFireworkMeta,     Serializer::handleFireworkMeta);
+        meta(BookMeta        .class, Deserializer::handleBookMeta,         Serializer::handleBookMeta);
+        meta(BannerMeta      .class, Deserializer::handleBannerMeta,       Serializer::handleBannerMeta);
+        meta(MapMeta         .class, Deserializer::handleMapMeta,          Serializer::handleMapMeta);
+        meta(EnchantmentStorageMeta.class, Deserializer::handleEnchantmentStorageMeta,     Serializer::handleEnchantmentStorageMeta);
+
+        onlyIf("SpawnEggMeta",           () -> meta(SpawnEggMeta          .class, Deserializer::handleSpawnEggMeta,           Serializer::handleSpawnEggMeta));
+        onlyIf("ArmorMeta",              () -> meta(ArmorMeta             .class, Deserializer::handleArmorMeta,              Serializer::handleArmorMeta));
+        onlyIf("AxolotlBucketMeta",      () -> meta(AxolotlBucketMeta     .class, Deserializer::handleAxolotlBucketMeta,      Serializer::handleAxolotlBucketMeta));
+        onlyIf("CompassMeta",            () -> meta(CompassMeta           .class, Deserializer::handleCompassMeta,            Serializer::handleCompassMeta));
+        onlyIf("SuspiciousStewMeta",     () -> meta(SuspiciousStewMeta    .class, Deserializer::handleSuspiciousStewMeta,     Serializer::handleSuspiciousStewMeta)); // Apparently Suspicious Stew was never added in 1.14
+        onlyIf("CrossbowMeta",           () -> meta(CrossbowMeta          .class, Deserializer::handleCrossbowMeta,           Serializer::handleCrossbowMeta));
+        onlyIf("TropicalFishBucketMeta", () -> meta(TropicalFishBucketMeta.class, Deserializer::handleTropicalFishBucketMeta, Serializer::handleTropicalFishBucketMeta));
         // @formatter:on
     }
 
-    @SuppressWarnings({"OptionalIsPresent", "unchecked"})
-    private static <T extends SerialObject> void recursiveMetaHandle(T serialObject, Class<?> metaClass, ItemMeta meta,
-                                                                     Map<Class<? extends ItemMeta>, Optional<Function<T, MetaHandler<ItemMeta>>>> map,
-                                                                     List<Function<T, MetaHandler<ItemMeta>>> collectedHandlers) {
-        Optional<Function<T, MetaHandler<ItemMeta>>> handler = map.get(metaClass);
-        if (handler != null) {
-            if (handler.isPresent()) {
-                if (collectedHandlers != null) collectedHandlers.add(handler.get());
-                handler.get().apply(serialObject).handle(meta);
-            }
-
-            return;
-        }
-
-        // This rarely happens for the interface classes themselves For example:
-        // ColorableArmorMeta extends ArmorMeta, LeatherArmorMeta
-        // But practically, this will always happen for every metadata, since this
-        // will be the Craft class that implements the metadata.
-
-        List<Function<T, MetaHandler<ItemMeta>>> subCollectedHandlers = new ArrayList<>();
-        Class<?> superclass = metaClass.getSuperclass();
-        if (superclass != null) recursiveMetaHandle(serialObject, superclass, meta, map, subCollectedHandlers);
-        for (Class<?> anInterface : metaClass.getInterfaces()) {
-            recursiveMetaHandle(serialObject, anInterface, meta, map, subCollectedHandlers);
-        }
-
-        if (subCollectedHandlers.isEmpty()) {
-            map.put((Class<? extends ItemMeta>) metaClass, Optional.empty());
-        } else {
-            map.put((Class<? extends ItemMeta>) metaClass, Optional.of(inst -> subMeta -> { // Cool syntax!
-                T castedInst = cast(inst);
-                for (Function<T, MetaHandler<ItemMeta>> subCollectedHandler : subCollectedHandlers) {
-                    subCollectedHandler.apply(castedInst).handle(subMeta);
-                }
-            }));
-
-            if (collectedHandlers != null)
-                collectedHandlers.addAll(subCollectedHandlers);
-        }
-    }
-
     private abstract static class SerialObject {
         @Nullable protected ItemStack item;
         @Nullable protected ConfigurationSection config;
@@ -439,6 +446,112 @@ public final class XItemStack {
         return deserialize(mapToConfigSection(serializedItem), translator);
     }
 
+    /**
+     * Deserializes many items at once, e.g. all the items of a kit or shop file.
+     * The parts of the config that don't require the server, such as materials, names and lore,
+     * are parsed in parallel and the items are then created on the caller thread.
+     * <p>
+     * A broken entry doesn't stop the rest of the items from being deserialized,
+     * its exception is collected in {@link BulkDeserialization#getErrors()} instead.
+     *
+     * @param configs the config section of each item, usually mapped by the section's key.
+     * @return the deserialized items and errors.
+     * @see #deserializeAll(Map, Function)
+     * @since 14.2.0
+     */
+    @NotNull
+    public static BulkDeserialization deserializeAll(@NotNull Map<String, ConfigurationSection> configs) {
+        return deserializeAll(configs, Function.identity());
+    }
+
+    /**
+     * Deserializes many items at once.
+     *
+     * @param configs    the config section of each item, usually mapped by the section's key.
+     * @param translator the function applied to item name and each lore line.
+     *                   This function is called from multiple threads, so it must be thread-safe.
+     * @return the deserialized items and errors.
+     * @see #deserializeAll(Map)
+     * @since 14.2.0
+     */
+    @NotNull
+    public static BulkDeserialization deserializeAll(@NotNull Map<String, ConfigurationSection> configs,
+                                                     @NotNull Function<String, String> translator) {
+        Objects.requireNonNull(configs, "Configs cannot be null");
+        Objects.requireNonNull(translator, "Translator cannot be null");
+
+        @SuppressWarnings("unchecked")
+        Map.Entry<String, ConfigurationSection>[] entries = configs.entrySet().toArray(new Map.Entry[0]);
+        Deserializer[] deserializers = new Deserializer[entries.length];
+        Exception[] errors = new Exception[entries.length];
+
+        // The deserializers aren't thread-safe, but each one is only used by a single thread here.
+        IntStream.range(0, entries.length).parallel().forEach(i -> {
+            try {
+                ConfigurationSection config = Objects.requireNonNull(entries[i].getValue(), "Config section is null");
+                deserializers[i] = deserializer().fromConfig(config).withTranslator(translator).resolve();
+            } catch (Exception ex) {
+                errors[i] = ex;
+            }
+        });
+
+        Map<String, ItemStack> items = new LinkedHashMap<>(entries.length);
+        Map<String, Exception> failed = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            String key = entries[i].getKey();
+            if (errors[i] != null) {
+                failed.put(key, errors[i]);
+                continue;
+            }
+
+            try {
+                items.put(key, deserializers[i].deserialize());
+            } catch (Exception ex) {
+                failed.put(key, ex);
+            }
+        }
+
+        return new BulkDeserialization(items, failed);
+    }
+
+    /**
+     * The result of {@link #deserializeAll(Map)}.
+     *
+     * @since 14.2.0
+     */
+    public static final class BulkDeserialization {
+        private final Map<String, ItemStack> items;
+        private final Map<String, Exception> errors;
+
+        private BulkDeserialization(Map<String, ItemStack> items, Map<String, Exception> errors) {
+            this.items = Collections.unmodifiableMap(items);
+            this.errors = Collections.unmodifiableMap(errors);
+        }
+
+        /**
+         * @return the successfully deserialized items, in the same order as the given configs.
+         */
+        @NotNull
+        public Map<String, ItemStack> getItems() {
+            return items;
+        }
+
+        /**
+         * @return the exception of each entry that couldn't be deserialized.
+         */
+        @NotNull
+        public Map<String, Exception> getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return true if all the items were deserialized successfully.
+         */
+        public boolean isSuccessful() {
+            return errors.isEmpty();
+        }
+    }
+
     private static int toInt(String str, @SuppressWarnings("SameParameterValue") int defaultValue) {
         try {
             return Integer.parseInt(str);
@@ -609,7 +722,7 @@ public final class XItemStack {
             handleAttributes(meta);
             legacySpawnEgg();
 
-            recursiveMetaHandle(this, meta.getClass(), meta, SERIALIZE_META_HANDLERS, null);
+            SERIALIZE_META_HANDLERS.handle(this, meta);
         }
 
         @SuppressWarnings({"UnstableApiUsage", "deprecation"})
@@ -958,6 +1071,29 @@ public final class XItemStack {
         return new Deserializer();
     }
 
+    /**
+     * The properties of an item that were changed by {@link Deserializer#edit()}.
+     *
+     * @since 14.2.0
+     */
+    public enum EditedProperty {
+        /**
+         * The material of the item, including the data value in versions before 1.13
+         */
+        MATERIAL,
+        AMOUNT,
+        /**
+         * The damage of the item in versions before 1.13, in newer versions the damage is a part of the {@link #META}.
+         */
+        DAMAGE,
+        DISPLAY_NAME,
+        LORE,
+        /**
+         * Any other property of the item's meta, such as enchantments or item flags.
+         */
+        META
+    }
+
     /**
      * The deserializer only requires a config to be set. All other properties are optional.
      * To use this class, you have to use {@link XItemStack#deserializer()}.
@@ -967,6 +1103,14 @@ public final class XItemStack {
         private Consumer<Exception> restart;
         private Function<List<String>, List<? extends Component>> miniMessageHandler;
 
+        /**
+         * The properties parsed ahead of time by {@link #resolve()}.
+         */
+        private boolean resolved;
+        private XMaterial resolvedMaterial;
+        private String resolvedName, resolvedItemName;
+        private List<String> resolvedLore;
+
         /**
          * Use {@link XItemStack#deserializer()} instead.
          */
@@ -1049,6 +1193,15 @@ public final class XItemStack {
         }
 
         public ItemStack deserialize() {
+            apply();
+            item.setItemMeta(meta);
+            return item;
+        }
+
+        /**
+         * Applies the config to {@link #item} and {@link #meta} without setting the meta of the item.
+         */
+        private void apply() {
             Objects.requireNonNull(config, "Config not set");
 
             handleMaterial();
@@ -1065,10 +1218,127 @@ public final class XItemStack {
             attributes();
             legacySpawnEgg();
 
-            recursiveMetaHandle(this, meta.getClass(), meta, DESERIALIZE_META_HANDLERS, null);
+            DESERIALIZE_META_HANDLERS.handle(this, meta);
+        }
 
-            item.setItemMeta(meta);
-            return item;
+        /**
+         * Updates the {@link #modifyItem(ItemStack) item} to match the config, only changing what's different.
+         * This is meant for items that are updated frequently with the same config, e.g. menu items
+         * with lore that changes every second.
+         * <p>
+         * The item's meta is only set if it's actually different, since {@link ItemStack#setItemMeta(ItemMeta)}
+         * is usually the most expensive part of deserializing an item.
+         *
+         * @return the properties of the item that were changed, empty if the item already matched the config.
+         * @since 14.2.0
+         */
+        @NotNull
+        public Set<EditedProperty> edit() {
+            ItemStack item = Objects.requireNonNull(this.item, "Item to edit not set");
+            Objects.requireNonNull(config, "Config not set");
+            Set<EditedProperty> edited = EnumSet.noneOf(EditedProperty.class);
+
+            // The material, amount and legacy damage are set directly on the item.
+            Material type = item.getType();
+            short data = item.getDurability();
+            int amount = item.getAmount();
+            handleMaterial();
+            if (!supports(1, 13)) legacySpawnEgg();
+            if (item.getType() != type || (!supports(1, 13) && item.getDurability() != data)) {
+                edited.add(EditedProperty.MATERIAL);
+            }
+
+            // Unlike handleDamage(), this also changes the amount back to 1.
+            if (config.contains("amount")) {
+                int newAmount = Math.max(1, config.getInt("amount"));
+                if (amount != newAmount) {
+                    item.setAmount(newAmount);
+                    edited.add(EditedProperty.AMOUNT);
+                }
+            }
+
+            if (!supports(1, 13)) {
+                short damage = item.getDurability();
+                handleDurability();
+                if (item.getDurability() != damage) edited.add(EditedProperty.DAMAGE);
+            }
+
+            // The config is applied to a single copy of the meta, the name and lore are applied last,
+            // so the rest of the meta can be compared with the current one before they're changed.
+            ItemMeta current = item.getItemMeta();
+            meta = current == null ? Bukkit.getItemFactory().getItemMeta(XMaterial.STONE.get()) : current.clone();
+            if (supports(1, 13)) handleDurability();
+            itemName();
+            unbreakable();
+            customModelData();
+            // Enchantments and flags are only ever added, so the ones that were removed from the config have to be cleared first.
+            for (Enchantment enchantment : new ArrayList<>(meta.getEnchants().keySet())) meta.removeEnchant(enchantment);
+            meta.removeItemFlags(meta.getItemFlags().toArray(new ItemFlag[0]));
+            enchants();
+            itemFlags();
+            attributes();
+            DESERIALIZE_META_HANDLERS.handle(this, meta);
+            if (current == null || !meta.equals(current)) edited.add(EditedProperty.META);
+
+            Object name = nameSnapshot();
+            Object lore = loreSnapshot();
+            displayName();
+            lore();
+            if (!Objects.equals(name, nameSnapshot())) edited.add(EditedProperty.DISPLAY_NAME);
+            if (!Objects.equals(lore, loreSnapshot())) edited.add(EditedProperty.LORE);
+
+            if (edited.contains(EditedProperty.META) ||
+                    edited.contains(EditedProperty.DISPLAY_NAME) ||
+                    edited.contains(EditedProperty.LORE)) {
+                item.setItemMeta(meta);
+            }
+            return edited;
+        }
+
+        /**
+         * The display name of {@link #meta} in the same form that {@link #displayName()} sets it.
+         */
+        @Nullable
+        private Object nameSnapshot() {
+            if (miniMessageHandler != null) return AdventureAPIFactory.displayName(meta);
+            return meta.hasDisplayName() ? meta.getDisplayName() : null;
+        }
+
+        /**
+         * The lore of {@link #meta} in the same form that {@link #lore()} sets it.
+         */
+        @Nullable
+        private Object loreSnapshot() {
+            if (miniMessageHandler != null) return AdventureAPIFactory.lore(meta);
+            return meta.hasLore() ? meta.getLore() : null;
+        }
+
+        /**
+         * Parses the properties that don't require the server, so they don't have to be parsed
+         * again by {@link #deserialize()}. This can be called from any thread, as long as the
+         * config is not modified in the meantime and the translator is thread-safe.
+         */
+        private Deserializer resolve() {
+            Objects.requireNonNull(config, "Config not set");
+
+            resolvedMaterial = resolveMaterial();
+            resolvedName = translateName("name");
+            resolvedItemName = SUPPORTS_ITEM_NAME ? translateName("item-name") : null;
+            resolvedLore = config.isSet("lore") ? translateLore() : null;
+            resolved = true;
+            return this;
+        }
+
+        /**
+         * Deserializes the item once and compiles it into a template that can create copies of it
+         * without parsing the config again.
+         *
+         * @see XItemStack#compile(ConfigurationSection)
+         * @since 14.2.0
+         */
+        @NotNull
+        public ItemTemplate compile() {
+            return new ItemTemplate(deserialize());
         }
 
         private void attributes() {
@@ -1213,35 +1483,35 @@ public final class XItemStack {
             }
         }
 
-        @SuppressWarnings("ConstantValue")
         private void displayName() {
-            String name = config.getString("name");
-
-            if (!Strings.isNullOrEmpty(name)) {
-                if (miniMessageHandler != null) {
+            if (miniMessageHandler != null) {
+                String name = config.getString("name");
+                if (!Strings.isNullOrEmpty(name)) {
                     AdventureAPIFactory.setDisplayName(meta, miniMessageHandler.apply(Collections.singletonList(name)).get(0));
                     return;
                 }
-
-                String translated = translator.apply(name);
-                meta.setDisplayName(translated);
-            } else if (name != null && name.isEmpty()) {
-                meta.setDisplayName(" "); // For GUI easy access configuration purposes
             }
+
+            String name = resolved ? resolvedName : translateName("name");
+            if (name != null) meta.setDisplayName(name);
         }
 
-        @SuppressWarnings("ConstantValue")
         private void itemName() {
             if (!SUPPORTS_ITEM_NAME)
                 return;
 
-            String itemName = config.getString("item-name");
-            if (!Strings.isNullOrEmpty(itemName)) {
-                String translated = translator.apply(itemName);
-                meta.setItemName(translated);
-            } else if (itemName != null && itemName.isEmpty()) {
-                meta.setItemName(" ");
-            }
+            String itemName = resolved ? resolvedItemName : translateName("item-name");
+            if (itemName != null) meta.setItemName(itemName);
+        }
+
+        @Nullable
+        private String translateName(String path) {
+            String name = config.getString(path);
+            if (name == null) return null;
+
+            // For GUI easy access configuration purposes
+            if (name.isEmpty()) return " ";
+            return translator.apply(name);
         }
 
         private void itemFlags() {
@@ -1297,14 +1567,26 @@ public final class XItemStack {
         private void lore() {
             if (!config.isSet("lore")) return;
 
-            List<String> translatedLore;
-            List<String> lores = config.getStringList("lore");
-            if (!lores.isEmpty()) {
-                if (miniMessageHandler != null) {
+            if (miniMessageHandler != null) {
+                List<String> lores = config.getStringList("lore");
+                if (lores.isEmpty()) {
+                    String lore = config.getString("lore");
+                    if (!Strings.isNullOrEmpty(lore)) lores = Collections.singletonList(lore);
+                }
+
+                if (!lores.isEmpty()) {
                     AdventureAPIFactory.setLore(meta, miniMessageHandler.apply(lores));
                     return;
                 }
+            }
+
+            meta.setLore(resolved ? resolvedLore : translateLore());
+        }
 
+        private List<String> translateLore() {
+            List<String> translatedLore;
+            List<String> lores = config.getStringList("lore");
+            if (!lores.isEmpty()) {
                 translatedLore = new ArrayList<>(lores.size());
 
                 for (String lore : lores) {
@@ -1326,11 +1608,6 @@ public final class XItemStack {
                 translatedLore = new ArrayList<>(10);
 
                 if (!Strings.isNullOrEmpty(lore)) {
-                    if (miniMessageHandler != null) {
-                        AdventureAPIFactory.setLore(meta, miniMessageHandler.apply(Collections.singletonList(lore)));
-                        return;
-                    }
-
                     for (String singleLore : splitNewLine(lore)) {
                         if (SPACE_EMPTY_LORE_LINES && singleLore.isEmpty()) {
                             translatedLore.add(" ");
@@ -1341,7 +1618,7 @@ public final class XItemStack {
                 }
             }
 
-            meta.setLore(translatedLore);
+            return translatedLore;
         }
 
         @SuppressWarnings("deprecation")
@@ -1732,8 +2009,24 @@ public final class XItemStack {
             }
         }
 
-        @SuppressWarnings("OptionalIsPresent")
         private void handleMaterial() {
+            XMaterial material = resolved ? resolvedMaterial : resolveMaterial();
+
+            if (material == null && item == null) {
+                material = solutionOrThrow(new UnsetMaterialCondition());
+            }
+
+            if (material != null) { // The item already has a material.
+                if (item == null) item = material.parseItem();
+                else material.setType(item);
+            }
+
+            this.xmaterial = material;
+        }
+
+        @Nullable
+        @SuppressWarnings("OptionalIsPresent")
+        private XMaterial resolveMaterial() {
             String materialName = config.getString("material");
             XMaterial material = null;
 
@@ -1748,7 +2041,7 @@ public final class XItemStack {
                     material = solutionOrThrow(new UnAcceptableMaterialCondition(material,
                             UnAcceptableMaterialCondition.Reason.UNSUPPORTED));
                 }
-                if (XTag.INVENTORY_NOT_DISPLAYABLE.isTagged(material)) {
+                if (!material.isDisplayable()) {
                     material = solutionOrThrow(new UnAcceptableMaterialCondition(material,
                             UnAcceptableMaterialCondition.Reason.NOT_DISPLAYABLE));
                 }
@@ -1758,16 +2051,7 @@ public final class XItemStack {
                 if (skull != null) material = XMaterial.PLAYER_HEAD;
             }
 
-            if (material == null && item == null) {
-                material = solutionOrThrow(new UnsetMaterialCondition());
-            }
-
-            if (material != null) { // The item already has a material.
-                if (item == null) item = material.parseItem();
-                else material.setType(item);
-            }
-
-            this.xmaterial = material;
+            return material;
         }
 
         private XMaterial solutionOrThrow(MaterialCondition condition) {
@@ -1982,65 +2266,102 @@ public final class XItemStack {
 
         List<ItemStack> leftOvers = new ArrayList<>(items.length);
 
-        // No other optimized way to access this using Bukkit API...
-        // We could pass the length to individual methods, so they could also use getItem() which
-        // skips parsing all the items in the inventory if not needed, but that's just too much.
+        // The contents are only copied once, all the changes are applied to this snapshot
+        // and only the changed slots are written back to the inventory at the end.
         // Note: This is not the same as Inventory#getSize()
-        int invSize = getStorageContents(inventory).length;
-        int lastEmpty = 0;
+        ItemStack[] contents = getStorageContents(inventory);
+        int invSize = contents.length;
+        boolean[] changed = new boolean[invSize];
+
+        // Partial stacks grouped by their similarity hash, sorted by slot. And all the empty slots in order.
+        Map<Integer, List<Integer>> partials = new HashMap<>();
+        int[] emptySlots = new int[invSize];
+        int emptyCount = 0, nextEmpty = 0;
+        for (int slot = 0; slot < invSize; slot++) {
+            if (modifiableSlots != null && !modifiableSlots.test(slot)) continue;
+
+            ItemStack content = contents[slot];
+            if (content == null) emptySlots[emptyCount++] = slot;
+            else if (content.getAmount() < content.getMaxStackSize()) {
+                partials.computeIfAbsent(similarityHash(content), k -> new ArrayList<>()).add(slot);
+            }
+        }
 
         for (ItemStack item : items) {
-            int lastPartial = 0;
             int maxAmount = split ? item.getMaxStackSize() : inventory.getMaxStackSize();
+            int hash = similarityHash(item);
+            boolean added = false;
 
-            while (true) {
-                // Check if there is a similar item that can be stacked before using free slots.
-                int firstPartial = lastPartial >= invSize ? -1 : firstPartial(inventory, item, lastPartial, modifiableSlots);
-                if (firstPartial == -1) { // No partial items found
-                    // Start adding items to leftovers if there are no partial and empty slots
-                    // -1 means that there are no empty slots left.
-                    if (lastEmpty != -1) lastEmpty = firstEmpty(inventory, lastEmpty, modifiableSlots);
-                    if (lastEmpty == -1) {
-                        leftOvers.add(item);
-                        break;
-                    }
-
-                    // Avoid firstPartial() for checking again for no reason, since if we're already checking
-                    // for free slots, that means there are no partials even left.
-                    lastPartial = Integer.MAX_VALUE;
+            // Check if there is a similar item that can be stacked before using free slots.
+            List<Integer> similar = partials.get(hash);
+            if (similar != null) {
+                for (Iterator<Integer> iter = similar.iterator(); iter.hasNext(); ) {
+                    int slot = iter.next();
+                    ItemStack partialItem = contents[slot];
+                    if (!partialItem.isSimilar(item)) continue;
 
-                    int amount = item.getAmount();
-                    if (amount <= maxAmount) {
-                        inventory.setItem(lastEmpty, item);
-                        break;
-                    } else {
-                        ItemStack copy = item.clone();
-                        copy.setAmount(maxAmount);
-                        inventory.setItem(lastEmpty, copy);
-                        item.setAmount(amount - maxAmount);
-                    }
-                    if (++lastEmpty == invSize) lastEmpty = -1;
-                } else {
-                    ItemStack partialItem = inventory.getItem(firstPartial);
                     int sum = item.getAmount() + partialItem.getAmount();
-
+                    changed[slot] = true;
                     if (sum <= maxAmount) {
                         partialItem.setAmount(sum);
-                        inventory.setItem(firstPartial, partialItem);
-                        break;
+                        added = true;
                     } else {
                         partialItem.setAmount(maxAmount);
-                        inventory.setItem(firstPartial, partialItem);
                         item.setAmount(sum - maxAmount);
                     }
-                    lastPartial = firstPartial + 1;
+
+                    if (partialItem.getAmount() >= partialItem.getMaxStackSize()) iter.remove();
+                    if (added) break;
+                }
+            }
+
+            while (!added) {
+                // Start adding items to leftovers if there are no partial and empty slots
+                if (nextEmpty == emptyCount) {
+                    leftOvers.add(item);
+                    break;
+                }
+
+                int slot = emptySlots[nextEmpty++];
+                int amount = item.getAmount();
+                ItemStack copy = item.clone();
+                if (amount <= maxAmount) {
+                    added = true;
+                } else {
+                    copy.setAmount(maxAmount);
+                    item.setAmount(amount - maxAmount);
+                }
+
+                contents[slot] = copy;
+                changed[slot] = true;
+                if (copy.getAmount() < copy.getMaxStackSize()) {
+                    // Items added later can stack with this one, keep the slots sorted like the inventory.
+                    List<Integer> slots = partials.computeIfAbsent(hash, k -> new ArrayList<>());
+                    int index = Collections.binarySearch(slots, slot);
+                    slots.add(index < 0 ? -(index + 1) : index, slot);
                 }
             }
         }
 
+        for (int slot = 0; slot < invSize; slot++) {
+            if (changed[slot]) inventory.setItem(slot, contents[slot]);
+        }
         return leftOvers;
     }
 
+    /**
+     * A cheap hash that is the same for items that are {@link ItemStack#isSimilar(ItemStack) similar},
+     * used to group items before comparing them with {@link ItemStack#isSimilar(ItemStack)}.
+     * The meta isn't hashed, since {@link ItemStack#getItemMeta()} creates a copy of it every time.
+     * The same goes for {@link ItemStack#getDurability()} in 1.13+ since the durability is stored in the meta,
+     * so it's only hashed in older versions where it's also used as the data value.
+     */
+    @SuppressWarnings("deprecation")
+    private static int similarityHash(ItemStack item) {
+        int hash = item.getType().hashCode();
+        return supports(1, 13) ? hash : 31 * hash + item.getDurability();
+    }
+
     @Contract(pure = true)
     @Range(from = -1, to = Integer.MAX_VALUE)
     public static int firstPartial(@NotNull Inventory inventory, @Nullable ItemStack item, int beginIndex) {
@@ -2082,7 +2403,7 @@ public final class XItemStack {
     @NotNull
     @Contract(pure = true)
     public static List<ItemStack> stack(@NotNull Collection<ItemStack> items) {
-        return stack(items, ItemStack::isSimilar);
+        return stack(items, XItemStack::similarityHash, ItemStack::isSimilar, false);
     }
 
     /**
@@ -2125,6 +2446,77 @@ public final class XItemStack {
         return stacked;
     }
 
+    /**
+     * Same as {@link #stack(Collection, BiPredicate)}, but the items are first grouped by a cheap key,
+     * and the similarity check is only used between the items with the same key.
+     * This is much faster for large collections with many different items.
+     * <pre>{@code
+     *   items = XItemStack.stack(items, ItemStack::getType, (first, second) -> first.getType() == second.getType(), false);
+     * }</pre>
+     * The order of the stacked items is the same as {@link #stack(Collection, BiPredicate)} regardless of parallelism.
+     *
+     * @param items      the items to stack.
+     * @param key        the key of each item. Items that are similar must have equal keys.
+     * @param similarity the similarity check between items with equal keys.
+     * @param parallel   whether the keys and groups should be computed in parallel.
+     *                   The key function and the similarity check must be thread-safe in that case.
+     * @return stacked up items.
+     * @since 14.2.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static List<ItemStack> stack(@NotNull Collection<ItemStack> items,
+                                        @NotNull Function<ItemStack, ?> key,
+                                        @NotNull BiPredicate<ItemStack, ItemStack> similarity,
+                                        boolean parallel) {
+        Objects.requireNonNull(items, "Cannot stack null items");
+        Objects.requireNonNull(key, "Similarity key cannot be null");
+        Objects.requireNonNull(similarity, "Similarity check cannot be null");
+
+        // AssertionError: TRAP ItemStack.setCount -> ItemStack.updateEmptyCacheFlag
+        ItemStack[] array = items.stream()
+                .filter(item -> item != null && item.getType() != Material.AIR)
+                .toArray(ItemStack[]::new);
+
+        Object[] keys = new Object[array.length];
+        IntStream indexes = IntStream.range(0, array.length);
+        (parallel ? indexes.parallel() : indexes).forEach(i -> keys[i] = key.apply(array[i]));
+
+        // The indexes of the items in each group, in the order that they were first seen.
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < array.length; i++) {
+            groups.computeIfAbsent(keys[i], k -> new ArrayList<>()).add(i);
+        }
+
+        Stream<List<Integer>> groupStream = parallel ? groups.values().parallelStream() : groups.values().stream();
+        List<Map.Entry<Integer, ItemStack>> stacked = groupStream
+                .flatMap(group -> {
+                    // The index of the first item of each stack, to keep the same order after merging the groups.
+                    List<Map.Entry<Integer, ItemStack>> groupStacked = new ArrayList<>();
+                    for (int index : group) {
+                        ItemStack item = array[index];
+                        boolean add = true;
+                        for (Map.Entry<Integer, ItemStack> entry : groupStacked) {
+                            ItemStack stack = entry.getValue();
+                            if (similarity.test(item, stack)) {
+                                stack.setAmount(stack.getAmount() + item.getAmount());
+                                add = false;
+                                break;
+                            }
+                        }
+
+                        if (add) groupStacked.add(new AbstractMap.SimpleImmutableEntry<>(index, item.clone()));
+                    }
+                    return groupStacked.stream();
+                })
+                .collect(Collectors.toList());
+
+        stacked.sort(Map.Entry.comparingByKey());
+        List<ItemStack> result = new ArrayList<>(stacked.size());
+        for (Map.Entry<Integer, ItemStack> entry : stacked) result.add(entry.getValue());
+        return result;
+    }
+
     @Contract(pure = true)
     @Range(from = -1, to = Integer.MAX_VALUE)
     public static int firstEmpty(@NotNull Inventory inventory, int beginIndex) {
@@ -2231,6 +2623,440 @@ public final class XItemStack {
         return item == null || item.getType() == Material.AIR;
     }
 
+    /**
+     * A compact binary format for items, mainly used for storing or syncing large amounts of items.
+     * Items are converted using the same {@link Serializer} and {@link Deserializer} (and their meta handlers)
+     * as the config format, so the data is portable between versions using {@link XMaterial} and {@link XEnchantment}
+     * names, but it's written directly as binary instead of going through YAML.
+     * <p>
+     * All the strings (config keys, material names, enchantments, lore lines, etc.) are interned,
+     * so each unique string is only written once per stream and referenced by an index afterward.
+     * <pre>{@code
+     * byte[] vault = XItemStack.BinaryCodec.toBytes(Arrays.asList(inventory.getContents()));
+     * List<ItemStack> items = XItemStack.BinaryCodec.fromBytes(vault);
+     * }</pre>
+     * Empty items are preserved as null elements. Use {@link java.nio.ByteBuffer#wrap(byte[])} if a buffer is needed.
+     *
+     * @since 14.2.0
+     */
+    public static final class BinaryCodec {
+        /**
+         * "XSIC"
+         */
+        private static final int MAGIC = 0x58534943;
+        private static final byte VERSION = 2;
+
+        // @formatter:off
+        private static final byte
+                TAG_NULL = 0, TAG_SECTION = 1, TAG_LIST = 2, TAG_STRING = 3, TAG_STRING_REF = 4,
+                TAG_INT = 5, TAG_LONG = 6, TAG_FLOAT = 7, TAG_DOUBLE = 8, TAG_TRUE = 9, TAG_FALSE = 10;
+        // @formatter:on
+
+        private BinaryCodec() {}
+
+        @NotNull
+        public static byte[] toBytes(@NotNull Collection<ItemStack> items) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + items.size() * 16);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                write(out, items);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return bytes.toByteArray();
+        }
+
+        @NotNull
+        public static List<ItemStack> fromBytes(@NotNull byte[] bytes) throws IOException {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        }
+
+        /**
+         * Writes all the items to the output. Null and {@link #isEmpty(ItemStack) empty} items are written as null.
+         */
+        public static void write(@NotNull DataOutput out, @NotNull Collection<ItemStack> items) throws IOException {
+            Objects.requireNonNull(out, "Cannot write items to null output");
+            Objects.requireNonNull(items, "Cannot write null items");
+
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            writeVarInt(out, items.size());
+
+            Map<String, Integer> strings = new HashMap<>();
+            for (ItemStack item : items) {
+                if (isEmpty(item)) {
+                    out.writeByte(TAG_NULL);
+                    continue;
+                }
+
+                MemoryConfiguration config = new MemoryConfiguration();
+                serializer().fromItem(item).toConfig(config).serialize();
+                writeValue(out, config, strings);
+            }
+        }
+
+        /**
+         * Reads the items that were {@link #write(DataOutput, Collection) written} before.
+         *
+         * @throws IOException if the data is corrupted or was written by a newer version.
+         */
+        @NotNull
+        public static List<ItemStack> read(@NotNull DataInput in) throws IOException {
+            Objects.requireNonNull(in, "Cannot read items from null input");
+            if (in.readInt() != MAGIC) throw new IOException("Not an item binary format");
+            byte version = in.readByte();
+            if (version != VERSION) throw new IOException("Unsupported item binary format version: " + version);
+
+            int size = readVarInt(in);
+            List<String> strings = new ArrayList<>();
+            List<ItemStack> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                byte tag = in.readByte();
+                if (tag == TAG_NULL) {
+                    items.add(null);
+                    continue;
+                }
+                if (tag != TAG_SECTION) throw new IOException("Expected an item section, got tag " + tag + " for item #" + i);
+
+                MemoryConfiguration config = new MemoryConfiguration();
+                readSection(in, config, strings);
+                items.add(deserializer().fromConfig(config).deserialize());
+            }
+            return items;
+        }
+
+        private static void writeValue(DataOutput out, Object value, Map<String, Integer> strings) throws IOException {
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+            } else if (value instanceof ConfigurationSection) {
+                ConfigurationSection section = (ConfigurationSection) value;
+                Set<String> keys = section.getKeys(false);
+                out.writeByte(TAG_SECTION);
+                writeVarInt(out, keys.size());
+                for (String key : keys) {
+                    writeString(out, key, strings);
+                    writeValue(out, section.get(key), strings);
+                }
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeByte(TAG_SECTION);
+                writeVarInt(out, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeString(out, String.valueOf(entry.getKey()), strings);
+                    writeValue(out, entry.getValue(), strings);
+                }
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                out.writeByte(TAG_LIST);
+                writeVarInt(out, list.size());
+                for (Object element : list) writeValue(out, element, strings);
+            } else if (value instanceof String) {
+                writeString(out, (String) value, strings);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                out.writeByte(TAG_INT);
+                int number = ((Number) value).intValue();
+                writeVarInt(out, (number << 1) ^ (number >> 31)); // ZigZag
+            } else if (value instanceof Long) {
+                out.writeByte(TAG_LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble((Double) value);
+            } else {
+                throw new IllegalArgumentException("Unsupported serialized item value: " + value + " (" + value.getClass() + ')');
+            }
+        }
+
+        private static void readSection(DataInput in, ConfigurationSection section, List<String> strings) throws IOException {
+            int size = readVarInt(in);
+            for (int i = 0; i < size; i++) {
+                String key = readString(in, in.readByte(), strings);
+                byte tag = in.readByte();
+                if (tag == TAG_SECTION) readSection(in, section.createSection(key), strings);
+                else section.set(key, readValue(in, tag, strings));
+            }
+        }
+
+        private static Object readValue(DataInput in, byte tag, List<String> strings) throws IOException {
+            switch (tag) {
+                case TAG_NULL:
+                    return null;
+                case TAG_SECTION: {
+                    // Sections inside lists are read as maps, same as YAML.
+                    int size = readVarInt(in);
+                    Map<String, Object> map = new LinkedHashMap<>(size);
+                    for (int i = 0; i < size; i++) {
+                        String key = readString(in, in.readByte(), strings);
+                        map.put(key, readValue(in, in.readByte(), strings));
+                    }
+                    return map;
+                }
+                case TAG_LIST: {
+                    int size = readVarInt(in);
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) list.add(readValue(in, in.readByte(), strings));
+                    return list;
+                }
+                case TAG_STRING:
+                case TAG_STRING_REF:
+                    return readString(in, tag, strings);
+                case TAG_TRUE:
+                    return true;
+                case TAG_FALSE:
+                    return false;
+                case TAG_INT: {
+                    int number = readVarInt(in);
+                    return (number >>> 1) ^ -(number & 1);
+                }
+                case TAG_LONG:
+                    return in.readLong();
+                case TAG_FLOAT:
+                    return in.readFloat();
+                case TAG_DOUBLE:
+                    return in.readDouble();
+                default:
+                    throw new IOException("Unknown item binary tag: " + tag);
+            }
+        }
+
+        private static void writeString(DataOutput out, String str, Map<String, Integer> strings) throws IOException {
+            Integer index = strings.get(str);
+            if (index != null) {
+                out.writeByte(TAG_STRING_REF);
+                writeVarInt(out, index);
+            } else {
+                strings.put(str, strings.size());
+                out.writeByte(TAG_STRING);
+                // Not using writeUTF() since it's limited to 65535 bytes.
+                byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        private static String readString(DataInput in, byte tag, List<String> strings) throws IOException {
+            if (tag == TAG_STRING) {
+                int length = readVarInt(in);
+                if (length < 0) throw new IOException("Invalid string length: " + length);
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+
+                String str = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(str);
+                return str;
+            } else if (tag == TAG_STRING_REF) {
+                int index = readVarInt(in);
+                if (index < 0 || index >= strings.size()) throw new IOException("Unknown string reference: " + index);
+                return strings.get(index);
+            } else {
+                throw new IOException("Expected a string, got tag " + tag);
+            }
+        }
+
+        private static void writeVarInt(DataOutput out, int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+
+        private static int readVarInt(DataInput in) throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = in.readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("VarInt is too big");
+        }
+    }
+
+    /**
+     * Deserializes the item from the config once, so the same item can be created multiple times
+     * without parsing the config again. This is useful for items that are created frequently, such as GUI items.
+     * <pre>{@code
+     * ItemTemplate template = XItemStack.compile(config.getConfigurationSection("shop.items.sword"));
+     * ItemStack item = template.create(placeholder -> placeholder.equals("player") ? player.getName() : null);
+     * }</pre>
+     * Use {@link Deserializer#compile()} for translators and other deserializer settings.
+     *
+     * @param config the config section to deserialize the item from.
+     * @return the compiled item.
+     * @since 14.2.0
+     */
+    @NotNull
+    public static ItemTemplate compile(@NotNull ConfigurationSection config) {
+        return deserializer().fromConfig(config).compile();
+    }
+
+    /**
+     * An immutable deserialized item that creates copies of itself.
+     * Placeholders in the form of {@code %name%} in the display name and lore are
+     * parsed when the template is compiled, so they can be replaced without searching the text again.
+     * Placeholders are replaced in the legacy (section sign) format of the texts.
+     *
+     * @see XItemStack#compile(ConfigurationSection)
+     * @since 14.2.0
+     */
+    public static final class ItemTemplate {
+        private final ItemStack prototype;
+        /**
+         * The compiled texts, these are null if they don't contain any placeholders.
+         */
+        @Nullable
+        private final PlaceholderText name;
+        @Nullable
+        private final PlaceholderText[] lore;
+
+        private ItemTemplate(ItemStack prototype) {
+            this.prototype = prototype;
+
+            PlaceholderText name = null;
+            PlaceholderText[] lore = null;
+            ItemMeta meta = prototype.hasItemMeta() ? prototype.getItemMeta() : null;
+            if (meta != null) {
+                if (meta.hasDisplayName()) name = PlaceholderText.compile(meta.getDisplayName());
+                if (meta.hasLore()) {
+                    List<String> lines = meta.getLore();
+                    lore = new PlaceholderText[lines.size()];
+                    boolean hasPlaceholders = false;
+                    for (int i = 0; i < lore.length; i++) {
+                        lore[i] = PlaceholderText.compile(lines.get(i));
+                        if (lore[i] != null) hasPlaceholders = true;
+                    }
+                    if (!hasPlaceholders) lore = null;
+                }
+            }
+
+            this.name = name;
+            this.lore = lore;
+        }
+
+        /**
+         * @return true if the display name or lore of this item contain any placeholders.
+         */
+        public boolean hasPlaceholders() {
+            return name != null || lore != null;
+        }
+
+        /**
+         * @return a copy of the item without replacing any placeholders.
+         */
+        @NotNull
+        public ItemStack create() {
+            return prototype.clone();
+        }
+
+        /**
+         * Creates a copy of the item and replaces its placeholders.
+         *
+         * @param placeholders gives the value of each placeholder name (without the {@code %}).
+         *                     If null is returned, the placeholder is kept as is.
+         * @return a new item.
+         */
+        @NotNull
+        public ItemStack create(@NotNull Function<String, String> placeholders) {
+            Objects.requireNonNull(placeholders, "Placeholder function cannot be null");
+            ItemStack item = prototype.clone();
+            if (!hasPlaceholders()) return item;
+
+            ItemMeta meta = item.getItemMeta();
+            if (name != null) meta.setDisplayName(name.apply(placeholders));
+            if (lore != null) {
+                List<String> lines = meta.getLore();
+                for (int i = 0; i < lore.length; i++) {
+                    if (lore[i] != null) lines.set(i, lore[i].apply(placeholders));
+                }
+                meta.setLore(lines);
+            }
+            item.setItemMeta(meta);
+            return item;
+        }
+
+        @Override
+        public String toString() {
+            return "ItemTemplate{" + prototype + ", placeholders=" + hasPlaceholders() + '}';
+        }
+    }
+
+    /**
+     * A text split into literal parts and placeholder names, e.g. {@code "Hello %player%!"}
+     * is {@code ["Hello ", "!"]} and {@code ["player"]}
+     */
+    private static final class PlaceholderText {
+        /**
+         * There's always one more literal than placeholders.
+         */
+        private final String[] literals, placeholders;
+        private final int length;
+
+        private PlaceholderText(String[] literals, String[] placeholders) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+
+            int length = 0;
+            for (String literal : literals) length += literal.length();
+            this.length = length;
+        }
+
+        /**
+         * @return the compiled text or null if the text doesn't contain any placeholders.
+         */
+        @Nullable
+        private static PlaceholderText compile(String text) {
+            List<String> literals = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+            int start = 0;
+            int open = text.indexOf('%');
+
+            while (open != -1) {
+                int close = text.indexOf('%', open + 1);
+                if (close == -1) break;
+
+                String placeholder = text.substring(open + 1, close);
+                if (!isPlaceholderName(placeholder)) {
+                    // The closing sign might be the start of another placeholder, e.g. "100% %player%"
+                    open = close;
+                    continue;
+                }
+
+                literals.add(text.substring(start, open));
+                placeholders.add(placeholder);
+                start = close + 1;
+                open = text.indexOf('%', start);
+            }
+
+            if (placeholders.isEmpty()) return null;
+            literals.add(text.substring(start));
+            return new PlaceholderText(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+        }
+
+        private static boolean isPlaceholderName(String name) {
+            if (name.isEmpty()) return false;
+            for (int i = 0; i < name.length(); i++) {
+                char ch = name.charAt(i);
+                if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-' && ch != '.' && ch != ':') return false;
+            }
+            return true;
+        }
+
+        private String apply(Function<String, String> values) {
+            StringBuilder builder = new StringBuilder(length + placeholders.length * 16);
+            for (int i = 0; i < placeholders.length; i++) {
+                builder.append(literals[i]);
+                String value = values.apply(placeholders[i]);
+                if (value == null) builder.append('%').append(placeholders[i]).append('%');
+                else builder.append(value);
+            }
+            return builder.append(literals[placeholders.length]).toString();
+        }
+    }
+
     public static class MaterialCondition extends RuntimeException {
         protected XMaterial solution;
 
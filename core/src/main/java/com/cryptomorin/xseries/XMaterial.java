@@ -37,9 +37,13 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -1951,6 +1955,14 @@ public enum XMaterial implements XBase<XMaterial, Material> {
      */
     private static final Map<String, XMaterial> NAMES = new HashMap<>();
 
+    /**
+     * The prototypes of {@link #parseItem()} indexed by the material's ordinal, these are created when first requested.
+     * These are never exposed since they'd be modified by other code.
+     *
+     * @since 14.2.0
+     */
+    private static final AtomicReferenceArray<ItemStack> PROTOTYPES = new AtomicReferenceArray<>(VALUES.length);
+
     /**
      * Guava (Google Core Libraries for Java)'s cache for performance and timed caches.
      * For strings that match a certain XMaterial. Mostly cached for configs.
@@ -2212,22 +2224,28 @@ public enum XMaterial implements XBase<XMaterial, Material> {
         // Items that have durability, such as armor and tools don't use the data value to distinguish their material.
         byte data = (byte) (Data.ISFLAT || material.equals("MAP") || item.getType().getMaxDurability() > 0 ? 0 : item.getDurability());
 
+        // Items with the same type and data value always match the same material before the flattening.
+        int legacyKey = !Data.ISFLAT && data >= 0 && data < 16 ? (item.getType().ordinal() << 4) | data : -1;
+
         // Versions 1.9-1.12 didn't really use the items data value.
         if (Data.SUPPORTS_SpawnEggMeta && !supports(1, 13) && item.hasItemMeta() && material.equals("MONSTER_EGG")) {
-            ItemMeta meta = item.getItemMeta();
-            if (meta instanceof SpawnEggMeta) {
-                SpawnEggMeta egg = (SpawnEggMeta) meta;
-
-                // https://hub.spigotmc.org/stash/projects/SPIGOT/repos/craftbukkit/browse/src/main/java/org/bukkit/craftbukkit/inventory/CraftMetaSpawnEgg.java?until=fb4564cc37c37a19a8920025de6bb19dbf852338&untilPath=src%2Fmain%2Fjava%2Forg%2Fbukkit%2Fcraftbukkit%2Finventory%2FCraftMetaSpawnEgg.java#113-120
-                // Can be null
-                EntityType type = egg.getSpawnedType();
-                if (type != null) {
-                    material = egg.getSpawnedType().name() + "_SPAWN_EGG";
-                } else {
-                    // We don't have a monster egg with ID 0
-                    return XMaterial.ZOMBIE_SPAWN_EGG;
+            String spawnedType = LegacyItems.getSpawnedType(item);
+            if (spawnedType == null) {
+                ItemMeta meta = item.getItemMeta();
+                if (meta instanceof SpawnEggMeta) {
+                    // https://hub.spigotmc.org/stash/projects/SPIGOT/repos/craftbukkit/browse/src/main/java/org/bukkit/craftbukkit/inventory/CraftMetaSpawnEgg.java?until=fb4564cc37c37a19a8920025de6bb19dbf852338&untilPath=src%2Fmain%2Fjava%2Forg%2Fbukkit%2Fcraftbukkit%2Finventory%2FCraftMetaSpawnEgg.java#113-120
+                    // Can be null
+                    EntityType type = ((SpawnEggMeta) meta).getSpawnedType();
+                    spawnedType = type == null ? "" : type.name();
                 }
             }
+
+            if (spawnedType != null) {
+                // We don't have a monster egg with ID 0
+                if (spawnedType.isEmpty()) return XMaterial.ZOMBIE_SPAWN_EGG;
+                material = spawnedType + "_SPAWN_EGG";
+                legacyKey = -1;
+            }
         }
 
         // Potions used the items data value to store
@@ -2257,9 +2275,17 @@ public enum XMaterial implements XBase<XMaterial, Material> {
         // Check FILLED_MAP enum for more info.
         // if (!Data.ISFLAT && item.hasItemMeta() && item.getItemMeta() instanceof org.bukkit.inventory.meta.MapMeta) return FILLED_MAP;
 
+        if (legacyKey != -1) {
+            XMaterial cached = LegacyItems.MATERIALS[legacyKey];
+            if (cached != null) return cached;
+        }
+
         // No orElseThrow, I don't want to deal with Java's final variable bullshit.
         Optional<XMaterial> result = matchDefinedXMaterial(material, data);
-        if (result.isPresent()) return result.get();
+        if (result.isPresent()) {
+            if (legacyKey != -1) LegacyItems.MATERIALS[legacyKey] = result.get();
+            return result.get();
+        }
         throw new IllegalArgumentException("Unsupported material from item: " + material + " (" + data + ')');
     }
 
@@ -2392,7 +2418,7 @@ public enum XMaterial implements XBase<XMaterial, Material> {
         Objects.requireNonNull(material, () -> "Unsupported material: " + this.name());
 
         item.setType(material);
-        if (!Data.ISFLAT && material.getMaxDurability() <= 0) item.setDurability(this.data);
+        if (!Data.ISFLAT && !this.isDamageable()) item.setDurability(this.data);
         // Splash Potions weren't an official material pre-flattening.
         if (!Data.ISFLAT && this == SPLASH_POTION) {
             item.setDurability((short) 16384); // Hard-coded as 'data' is only a byte.
@@ -2476,16 +2502,54 @@ public enum XMaterial implements XBase<XMaterial, Material> {
     /**
      * Parses an item from this XMaterial.
      * Uses data values on older versions.
+     * <p>
+     * The item is only built once and then copied for each call.
      *
      * @return an ItemStack with the same material (and data value if in older versions.)
      * @see #setType(ItemStack)
+     * @see #isSimilarItem(ItemStack)
      * @since 2.0.0
      */
     @Nullable
-    @SuppressWarnings("deprecation")
     public ItemStack parseItem() {
+        ItemStack prototype = getPrototype();
+        return prototype == null ? null : prototype.clone();
+    }
+
+    /**
+     * Checks if the item is {@link ItemStack#isSimilar(ItemStack) similar} to {@link #parseItem()},
+     * without creating a new item for every check.
+     * Unlike {@link #isSimilar(ItemStack)}, this also compares the item's meta, so a renamed item isn't similar.
+     *
+     * @param item the item to check.
+     * @return true if the item is similar to the parsed item of this material, false if it isn't
+     * or this material is not supported.
+     * @since 14.2.0
+     */
+    public boolean isSimilarItem(@Nullable ItemStack item) {
+        if (item == null) return false;
+        ItemStack prototype = getPrototype();
+        // CraftItemStack#isSimilar accepts plain ItemStacks, so the prototype is only read.
+        return prototype != null && item.isSimilar(prototype);
+    }
+
+    @Nullable
+    private ItemStack getPrototype() {
+        if (this.material == null) return null;
+
+        int index = this.ordinal();
+        ItemStack item = PROTOTYPES.get(index);
+        if (item == null) {
+            item = createItem();
+            // Another thread might've created one already, use that instead.
+            if (!PROTOTYPES.compareAndSet(index, null, item)) item = PROTOTYPES.get(index);
+        }
+        return item;
+    }
+
+    @SuppressWarnings("deprecation")
+    private ItemStack createItem() {
         Material material = this.get();
-        if (material == null) return null;
         ItemStack base = Data.ISFLAT ? new ItemStack(material) : new ItemStack(material, 1, this.data);
         // Splash Potions weren't an official material pre-flattening.
         if (!Data.ISFLAT && this == SPLASH_POTION) {
@@ -2534,7 +2598,103 @@ public enum XMaterial implements XBase<XMaterial, Material> {
         if (this == SPLASH_POTION) {
             return Data.ISFLAT || item.getDurability() == (short) 16384;
         }
-        return Data.ISFLAT || item.getDurability() == this.data || item.getType().getMaxDurability() > 0;
+        return Data.ISFLAT || item.getDurability() == this.data || this.isDamageable();
+    }
+
+    /**
+     * The maximum stack size of this material.
+     * Note that items can have a different stack size in newer versions, use {@link ItemStack#getMaxStackSize()} for items.
+     *
+     * @return the max stack size, or 0 if the material is not supported.
+     * @see Material#getMaxStackSize()
+     * @since 14.2.0
+     */
+    public int getMaxStackSize() {
+        return Properties.MAX_STACK_SIZE[this.ordinal()];
+    }
+
+    /**
+     * The maximum durability of this material.
+     *
+     * @return the max durability, or 0 if the material doesn't have durability or is not supported.
+     * @see Material#getMaxDurability()
+     * @see #isDamageable()
+     * @since 14.2.0
+     */
+    public short getMaxDurability() {
+        return Properties.MAX_DURABILITY[this.ordinal()];
+    }
+
+    /**
+     * @return true if this material has durability, such as tools and armor.
+     * @see #getMaxDurability()
+     * @since 14.2.0
+     */
+    public boolean isDamageable() {
+        return getMaxDurability() > 0;
+    }
+
+    /**
+     * @return true if this material is a placeable block and is supported.
+     * @see Material#isBlock()
+     * @since 14.2.0
+     */
+    public boolean isBlock() {
+        return Properties.has(this, Properties.BLOCK);
+    }
+
+    /**
+     * @return true if this material is an obtainable item and is supported.
+     * @see XTag#isItem(XMaterial)
+     * @since 14.2.0
+     */
+    public boolean isItem() {
+        return Properties.has(this, Properties.ITEM);
+    }
+
+    /**
+     * @return true if this material is a solid block and is supported.
+     * @see Material#isSolid()
+     * @since 14.2.0
+     */
+    public boolean isSolid() {
+        return Properties.has(this, Properties.SOLID);
+    }
+
+    /**
+     * @return true if this material is a block that completely blocks vision and is supported.
+     * @see Material#isOccluding()
+     * @since 14.2.0
+     */
+    public boolean isOccluding() {
+        return Properties.has(this, Properties.OCCLUDING);
+    }
+
+    /**
+     * @return true if this material is one of the air types, regardless of whether it's supported.
+     * @see XTag#AIR
+     * @since 14.2.0
+     */
+    public boolean isAir() {
+        return Properties.has(this, Properties.AIR);
+    }
+
+    /**
+     * @return true if this material is water or lava, regardless of whether it's supported.
+     * @see XTag#FLUID
+     * @since 14.2.0
+     */
+    public boolean isFluid() {
+        return Properties.has(this, Properties.FLUID);
+    }
+
+    /**
+     * @return true if this material can be displayed in inventories, regardless of whether it's supported.
+     * @see XTag#INVENTORY_NOT_DISPLAYABLE
+     * @since 14.2.0
+     */
+    public boolean isDisplayable() {
+        return !Properties.has(this, Properties.NOT_DISPLAYABLE);
     }
 
     @Override
@@ -2603,6 +2763,142 @@ public enum XMaterial implements XBase<XMaterial, Material> {
         }
     }
 
+    /**
+     * Optimizations for {@link #matchXMaterial(ItemStack)} in versions before the flattening update.
+     * This class is only loaded in these versions.
+     *
+     * @since 14.2.0
+     */
+    private static final class LegacyItems {
+        /**
+         * The matched material of each {@code (Material#ordinal() << 4) | data} pair.
+         * Filled when an item is matched for the first time.
+         * Data values above 15 (such as spawn eggs in v1.8) are not cached.
+         */
+        private static final XMaterial[] MATERIALS = new XMaterial[Material.values().length << 4];
+
+        /**
+         * Used to read the entity type of spawn eggs without copying the entire {@link ItemMeta}
+         */
+        private static final Class<?> CRAFT_ITEM_STACK;
+        private static final MethodHandle HANDLE, GET_TAG, GET_COMPOUND, GET_STRING;
+
+        static {
+            Class<?> craftItemStack = null;
+            MethodHandle handle = null, getTag = null, getCompound = null, getString = null;
+
+            if (Data.SUPPORTS_SpawnEggMeta) {
+                try {
+                    String craftBukkit = Bukkit.getServer().getClass().getPackage().getName();
+                    String nms = "net.minecraft.server." + craftBukkit.substring(craftBukkit.lastIndexOf('.') + 1) + '.';
+                    Class<?> nmsItemStack = Class.forName(nms + "ItemStack");
+                    Class<?> nbtCompound = Class.forName(nms + "NBTTagCompound");
+                    craftItemStack = Class.forName(craftBukkit + ".inventory.CraftItemStack");
+
+                    MethodHandles.Lookup lookup = MethodHandles.lookup();
+                    Field handleField = craftItemStack.getDeclaredField("handle");
+                    handleField.setAccessible(true);
+
+                    handle = lookup.unreflectGetter(handleField);
+                    getTag = lookup.findVirtual(nmsItemStack, "getTag", MethodType.methodType(nbtCompound));
+                    getCompound = lookup.findVirtual(nbtCompound, "getCompound", MethodType.methodType(nbtCompound, String.class));
+                    getString = lookup.findVirtual(nbtCompound, "getString", MethodType.methodType(String.class, String.class));
+                } catch (Throwable ex) {
+                    // The meta will be used instead.
+                    craftItemStack = null;
+                }
+            }
+
+            CRAFT_ITEM_STACK = craftItemStack;
+            HANDLE = handle;
+            GET_TAG = getTag;
+            GET_COMPOUND = getCompound;
+            GET_STRING = getString;
+        }
+
+        /**
+         * @return the {@link EntityType} name of the spawn egg, an empty string if it has no type or
+         * null if it couldn't be read, in which case {@link SpawnEggMeta} should be used instead.
+         */
+        @Nullable
+        @SuppressWarnings("deprecation")
+        private static String getSpawnedType(ItemStack item) {
+            if (CRAFT_ITEM_STACK == null || !CRAFT_ITEM_STACK.isInstance(item)) return null;
+
+            try {
+                Object nmsItem = HANDLE.invoke(item);
+                if (nmsItem == null) return null;
+
+                Object tag = GET_TAG.invoke(nmsItem);
+                if (tag == null) return "";
+
+                Object entityTag = GET_COMPOUND.invoke(tag, "EntityTag");
+                String id = (String) GET_STRING.invoke(entityTag, "id");
+                if (id.isEmpty()) return "";
+
+                // v1.11+ uses namespaced IDs: "minecraft:zombie"
+                int namespace = id.indexOf(':');
+                if (namespace != -1) id = id.substring(namespace + 1);
+
+                EntityType type = EntityType.fromName(id);
+                return type == null ? null : type.name();
+            } catch (Throwable ex) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The properties of all materials that are checked frequently, stored in arrays indexed by
+     * the material's ordinal so they don't have to be looked up from the server every time.
+     * This is only built when one of these properties is requested for the first time.
+     *
+     * @since 14.2.0
+     */
+    private static final class Properties {
+        private static final int
+                BLOCK = 1,
+                ITEM = 1 << 1,
+                SOLID = 1 << 2,
+                OCCLUDING = 1 << 3,
+                AIR = 1 << 4,
+                FLUID = 1 << 5,
+                NOT_DISPLAYABLE = 1 << 6;
+
+        private static final byte[] MAX_STACK_SIZE = new byte[VALUES.length];
+        private static final short[] MAX_DURABILITY = new short[VALUES.length];
+        private static final byte[] FLAGS = new byte[VALUES.length];
+
+        static {
+            for (XMaterial material : VALUES) {
+                int index = material.ordinal();
+                int flags = 0;
+
+                // Tags don't depend on the server version.
+                if (XTag.AIR.isTagged(material)) flags |= AIR;
+                if (XTag.FLUID.isTagged(material)) flags |= FLUID;
+                if (XTag.INVENTORY_NOT_DISPLAYABLE.isTagged(material)) flags |= NOT_DISPLAYABLE;
+
+                Material bukkit = material.get();
+                if (bukkit != null) {
+                    MAX_STACK_SIZE[index] = (byte) bukkit.getMaxStackSize();
+                    MAX_DURABILITY[index] = bukkit.getMaxDurability();
+
+                    if (bukkit.isBlock()) flags |= BLOCK;
+                    if (XTag.isItem(material)) flags |= ITEM;
+                    if (bukkit.isSolid()) flags |= SOLID;
+                    if (bukkit.isOccluding()) flags |= OCCLUDING;
+                }
+
+                FLAGS[index] = (byte) flags;
+            }
+        }
+
+        private static boolean has(XMaterial material, int flag) {
+            return (FLAGS[material.ordinal()] & flag) != 0;
+        }
+    }
+
     /**
      * Used for data that need to be accessed during enum initialization.
      *
@@ -472,9 +472,7 @@ public abstract class XWorldBorder {
                     packets = new Object[]{packet};
                 }
 
-                for (Player player : players) {
-                    MinecraftConnection.sendPacket(player, packets);
-                }
+                MinecraftConnection.broadcast(players, packets);
             } catch (Throwable throwable) {
                 throwable.printStackTrace();
             } finally {
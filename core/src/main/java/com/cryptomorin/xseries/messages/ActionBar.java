@@ -153,6 +153,15 @@ public final class ActionBar {
 
     private ActionBar() {}
 
+    /**
+     * Creates the chat packet of an action bar with the given plain text.
+     */
+    private static Object createPacket(String message) throws Throwable {
+        // We need to escape both \ and " to avoid all possiblities of breaking JSON syntax and causing an exception.
+        Object component = CHAT_COMPONENT_TEXT.invoke("{\"text\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}");
+        return PACKET_PLAY_OUT_CHAT.invoke(component, CHAT_MESSAGE_TYPE);
+    }
+
     /**
      * Sends an action bar to a player.
      * This particular method supports a special prefix for
@@ -208,10 +217,7 @@ public final class ActionBar {
         }
 
         try {
-            // We need to escape both \ and " to avoid all possiblities of breaking JSON syntax and causing an exception.
-            Object component = CHAT_COMPONENT_TEXT.invoke("{\"text\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}");
-            Object packet = PACKET_PLAY_OUT_CHAT.invoke(component, CHAT_MESSAGE_TYPE);
-            MinecraftConnection.sendPacket(player, packet);
+            MinecraftConnection.sendPacket(player, createPacket(message));
         } catch (Throwable throwable) {
             throwable.printStackTrace();
         }
@@ -236,10 +242,7 @@ public final class ActionBar {
         }
 
         try {
-            // We need to escape both \ and " to avoid all possiblities of breaking JSON syntax and causing an exception.
-            Object component = CHAT_COMPONENT_TEXT.invoke("{\"text\":\"" + message.toPlainText().replace("\\", "\\\\").replace("\"", "\\\"") + "\"}");
-            Object packet = PACKET_PLAY_OUT_CHAT.invoke(component, CHAT_MESSAGE_TYPE);
-            MinecraftConnection.sendPacket(player, packet);
+            MinecraftConnection.sendPacket(player, createPacket(message.toPlainText()));
         } catch (Throwable throwable) {
             throwable.printStackTrace();
         }
@@ -284,7 +287,17 @@ public final class ActionBar {
      */
     @Deprecated
     public static void sendPlayersActionBar(@Nullable String message) {
-        for (Player player : Bukkit.getOnlinePlayers()) sendActionBar(player, message);
+        Objects.requireNonNull(message, "Cannot send null actionbar message");
+        if (USE_SPIGOT_API) {
+            for (Player player : Bukkit.getOnlinePlayers()) sendActionBar(player, message);
+            return;
+        }
+
+        try {
+            MinecraftConnection.broadcast(Bukkit.getOnlinePlayers(), createPacket(message));
+        } catch (Throwable throwable) {
+            throwable.printStackTrace();
+        }
     }
 
     /**
@@ -23,6 +23,7 @@ package com.cryptomorin.xseries.messages;
 
 import com.cryptomorin.xseries.reflection.XReflection;
 import com.cryptomorin.xseries.reflection.minecraft.MinecraftClassHandle;
+import com.cryptomorin.xseries.reflection.minecraft.MinecraftConnection;
 import com.cryptomorin.xseries.reflection.minecraft.MinecraftPackage;
 import net.md_5.bungee.api.chat.BaseComponent;
 import org.bukkit.configuration.ConfigurationSection;
@@ -33,9 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Function;
 
 import static com.cryptomorin.xseries.messages.MessageComponents.MessageText;
@@ -201,6 +200,14 @@ public final class Titles {
         sendTitle(player, fadeIn, stay, fadeOut, title, subtitle);
     }
 
+    /**
+     * @see #sendTitle(Collection, int, int, int, MessageText, MessageText)
+     * @since 14.2.0
+     */
+    public void send(Collection<? extends Player> players) {
+        sendTitle(players, fadeIn, stay, fadeOut, title, subtitle);
+    }
+
     /**
      * Sends a title message with title and subtitle to a player.
      *
@@ -223,6 +230,26 @@ public final class Titles {
                                  int fadeIn, int stay, int fadeOut,
                                  @Nullable MessageText title, @Nullable MessageText subtitle) {
         Objects.requireNonNull(player, "Cannot send title to null player");
+        sendTitle(Collections.singletonList(player), fadeIn, stay, fadeOut, title, subtitle);
+    }
+
+    /**
+     * Sends a title message with title and subtitle to multiple players.
+     * The title packets are only created once and the same packets are sent to all the players.
+     *
+     * @param players  the players to send the title to.
+     * @param fadeIn   the amount of ticks for title to fade in.
+     * @param stay     the amount of ticks for the title to stay.
+     * @param fadeOut  the amount of ticks for the title to fade out.
+     * @param title    the title message.
+     * @param subtitle the subtitle message.
+     * @see MinecraftConnection#broadcast(Collection, Object...)
+     * @since 14.2.0
+     */
+    public static void sendTitle(@NotNull Collection<? extends Player> players,
+                                 int fadeIn, int stay, int fadeOut,
+                                 @Nullable MessageText title, @Nullable MessageText subtitle) {
+        Objects.requireNonNull(players, "Cannot send title to null players");
         if (title == null && subtitle == null) return;
 
         if (USE_TEXT_COMPONENTS) {
@@ -244,12 +271,15 @@ public final class Titles {
                 throw new IllegalStateException("Failed to create packets with title: " + title + " and subtitle: " + subtitle, ex);
             }
 
-            sendPacket(player, packets.toArray(new Object[0]));
+            // Sent as a bundle, so the client doesn't render a single frame of the title without its subtitle.
+            MinecraftConnection.broadcast(players, packets.toArray());
             return;
         }
 
         if (SUPPORTS_TITLES) {
-            player.sendTitle(title.asString(), subtitle.asString(), fadeIn, stay, fadeOut);
+            for (Player player : players) {
+                player.sendTitle(title.asString(), subtitle.asString(), fadeIn, stay, fadeOut);
+            }
             return;
         }
 
@@ -269,7 +299,7 @@ public final class Titles {
                 packets.add(PACKET_PLAY_OUT_TITLE.invoke(TITLE_ACTION_SUBTITLE, subtitleComponent, fadeIn, stay, fadeOut));
             }
 
-            sendPacket(player, packets.toArray(new Object[0]));
+            MinecraftConnection.broadcast(players, packets.toArray());
         } catch (Throwable ex) {
             throw new IllegalStateException("Failed to send packets for title: " + title + " and subtitle: " + subtitle, ex);
         }
@@ -433,7 +463,7 @@ public final class Titles {
             footerField.setAccessible(true);
             footerField.set(packet, tabFooter);
 
-            for (Player player : players) sendPacket(player, packet);
+            MinecraftConnection.broadcast(Arrays.asList(players), packet);
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to send tablist: " + header + " - " + footer, ex);
         }
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.particles;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs a particle animation in two stages. The points of each frame are computed on a worker thread
+ * and {@link ParticleBatch#capture(BooleanSupplier) captured} into a {@link ParticleBatch}, which is
+ * then sent from the thread that ticks this animation, usually the main thread.
+ * This keeps the heavy math of the animation off the main thread without accessing the world asynchronously.
+ * <p>
+ * Each call to {@link #getAsBoolean()} sends the last computed frame and starts computing the next one,
+ * so the particles are always displayed one tick after they're computed. If the worker is still
+ * computing the frame, the tick is skipped instead of blocking.
+ * <pre>{@code
+ * BooleanSupplier helix = Particles.helix(...);
+ * new AsyncParticleAnimation(helix).runTaskTimer(plugin);
+ * }</pre>
+ * {@link #runTaskTimer(Plugin)} uses the {@link org.bukkit.scheduler.BukkitScheduler}, so other schedulers
+ * need to call {@link #getAsBoolean()} every tick themselves.
+ * The animation itself is never called concurrently, however it's called from different worker threads,
+ * so it should not access the world or entities.
+ *
+ * @since 14.2.0
+ */
+public final class AsyncParticleAnimation implements BooleanSupplier {
+    private final BooleanSupplier animation;
+    private final Executor executor;
+
+    private ParticleBatch frame;
+    private CompletableFuture<Boolean> computing;
+    private volatile boolean cancelled;
+
+    /**
+     * @param animation the animation that returns false when it's finished.
+     * @param executor  the executor that computes the frames of the animation.
+     */
+    public AsyncParticleAnimation(@NotNull BooleanSupplier animation, @NotNull Executor executor) {
+        this.animation = Objects.requireNonNull(animation, "Animation cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Computes the frames using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param animation the animation that returns false when it's finished.
+     */
+    public AsyncParticleAnimation(@NotNull BooleanSupplier animation) {
+        this(animation, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sends the last computed frame and starts computing the next one.
+     * This should be called every tick from the thread that the particles should be sent from.
+     *
+     * @return false if the animation is finished or cancelled.
+     */
+    @Override
+    public boolean getAsBoolean() {
+        if (cancelled) return false;
+
+        if (computing != null) {
+            // The worker is behind, don't block the main thread.
+            if (!computing.isDone()) return true;
+
+            boolean hasNext;
+            try {
+                hasNext = computing.join();
+            } catch (CompletionException ex) {
+                cancelled = true;
+                throw new IllegalStateException("Failed to compute particle animation frame", ex.getCause());
+            } finally {
+                computing = null;
+            }
+
+            frame.flush();
+            if (!hasNext) {
+                cancelled = true;
+                return false;
+            }
+        }
+
+        ParticleBatch nextFrame = new ParticleBatch();
+        this.frame = nextFrame;
+        this.computing = CompletableFuture.supplyAsync(() -> nextFrame.capture(animation), executor);
+        return true;
+    }
+
+    /**
+     * Stops the animation. The frame that is currently being computed, if any, will not be sent.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Ticks this animation every tick on the main thread until it's finished.
+     * This is not supported on servers without a main thread, such as Folia.
+     *
+     * @param plugin the plugin that owns the task.
+     * @return the task ticking the animation.
+     */
+    @NotNull
+    public BukkitTask runTaskTimer(@NotNull Plugin plugin) {
+        return new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (!getAsBoolean()) cancel();
+            }
+        }.runTaskTimer(plugin, 0, 1);
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.particles;
+
+import com.cryptomorin.xseries.reflection.XReflection;
+import com.cryptomorin.xseries.reflection.minecraft.MinecraftClassHandle;
+import com.cryptomorin.xseries.reflection.minecraft.MinecraftMapping;
+import com.cryptomorin.xseries.reflection.minecraft.MinecraftPackage;
+import com.cryptomorin.xseries.reflection.minecraft.PacketBatch;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+
+import static com.cryptomorin.xseries.reflection.XReflection.ofMinecraft;
+
+/**
+ * Collects all the particles of a frame and sends them at once when {@link #flush() flushed}.
+ * Instead of letting the server look for nearby players for every single particle, the players
+ * of each world are only culled once per frame, and the particle packets are created directly
+ * and sent to each viewer in a single bundle packet (v1.19.4+, see {@link PacketBatch}).
+ * <pre>{@code
+ * ParticleBatch batch = new ParticleBatch();
+ * ParticleDisplay display = ParticleDisplay.of(XParticle.FLAME).withLocation(location).withBatch(batch);
+ * Particles.sphere(3, 20, display);
+ * batch.flush();
+ * }</pre>
+ * If the particle packets can't be created in this version, the particles are spawned
+ * separately for each of the culled viewers instead.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see ParticleDisplay#withBatch(ParticleBatch)
+ * @since 14.2.0
+ */
+public final class ParticleBatch {
+    /**
+     * The distance that the server sends particles to players from.
+     * {@code net.minecraft.server.level.ServerLevel#sendParticles()}
+     */
+    private static final double VIEW_DISTANCE = 32, FORCED_VIEW_DISTANCE = 512;
+
+    /**
+     * {@code CraftParticle.createParticleParam(Particle, Object)} (v1.20.5+) or {@code CraftParticle.toNMS(Particle, Object)}
+     */
+    private static final MethodHandle TO_NMS;
+    private static final MethodHandle PARTICLES_PACKET;
+    /**
+     * The {@code alwaysShow} parameter was added in v1.21.4
+     */
+    private static final boolean PACKET_ALWAYS_SHOW;
+
+    static {
+        MethodHandle toNMS = null, packet = null;
+        boolean alwaysShow = false;
+
+        // The double coordinates constructor was added in v1.15
+        if (XReflection.supports(1, 15)) {
+            try {
+                MinecraftClassHandle CraftParticle = ofMinecraft().inPackage(MinecraftPackage.CB).named("CraftParticle");
+                MinecraftClassHandle ParticleOptions = ofMinecraft()
+                        .inPackage(MinecraftPackage.NMS, "core.particles")
+                        .map(MinecraftMapping.MOJANG, "ParticleOptions")
+                        .map(MinecraftMapping.SPIGOT, "ParticleParam");
+                MinecraftClassHandle ClientboundLevelParticlesPacket = ofMinecraft()
+                        .inPackage(MinecraftPackage.NMS, "network.protocol.game")
+                        .map(MinecraftMapping.MOJANG, "ClientboundLevelParticlesPacket")
+                        .map(MinecraftMapping.SPIGOT, "PacketPlayOutWorldParticles");
+
+                toNMS = XReflection.any(
+                        CraftParticle.method().asStatic().named("createParticleParam").returns(ParticleOptions).parameters(Particle.class, Object.class),
+                        CraftParticle.method().asStatic().named("toNMS").returns(ParticleOptions).parameters(Particle.class, Object.class)
+                ).reflect();
+
+                Class<?> particleOptions = ParticleOptions.reflect();
+                alwaysShow = XReflection.supports(1, 21, 4);
+                if (alwaysShow) {
+                    packet = ClientboundLevelParticlesPacket.constructor().parameters(particleOptions,
+                            boolean.class, boolean.class, double.class, double.class, double.class,
+                            float.class, float.class, float.class, float.class, int.class).reflect();
+                } else {
+                    packet = ClientboundLevelParticlesPacket.constructor().parameters(particleOptions,
+                            boolean.class, double.class, double.class, double.class,
+                            float.class, float.class, float.class, float.class, int.class).reflect();
+                }
+            } catch (Throwable ex) {
+                toNMS = null;
+                packet = null;
+            }
+        }
+
+        TO_NMS = toNMS;
+        PARTICLES_PACKET = packet;
+        PACKET_ALWAYS_SHOW = alwaysShow;
+    }
+
+    /**
+     * The batch that all the particles spawned by the current thread are queued into.
+     *
+     * @see #capture(BooleanSupplier)
+     */
+    private static final ThreadLocal<ParticleBatch> CAPTURING = new ThreadLocal<>();
+
+    private List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Whether particles are sent using packets directly, otherwise they're spawned for each viewer using the Bukkit API.
+     */
+    public static boolean supportsPackets() {
+        return PARTICLES_PACKET != null;
+    }
+
+    private static final class Entry {
+        private final Particle particle;
+        private final World world;
+        private final double x, y, z, offsetX, offsetY, offsetZ, extra;
+        private final int count;
+        private final Object data;
+        private final boolean force;
+        private final Player[] viewers;
+
+        private Entry(Particle particle, World world, double x, double y, double z, int count,
+                      double offsetX, double offsetY, double offsetZ, double extra,
+                      Object data, boolean force, Player[] viewers) {
+            this.particle = particle;
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.count = count;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.offsetZ = offsetZ;
+            this.extra = extra;
+            this.data = data;
+            this.force = force;
+            this.viewers = viewers;
+        }
+
+        private double viewDistanceSquared() {
+            double distance = force ? FORCED_VIEW_DISTANCE : VIEW_DISTANCE;
+            return distance * distance;
+        }
+
+        @Nullable
+        private Object createPacket() throws Throwable {
+            if (PARTICLES_PACKET == null) return null;
+
+            Object options = TO_NMS.invoke(particle, data);
+            if (PACKET_ALWAYS_SHOW) {
+                return PARTICLES_PACKET.invoke(options, force, false, x, y, z,
+                        (float) offsetX, (float) offsetY, (float) offsetZ, (float) extra, count);
+            } else {
+                return PARTICLES_PACKET.invoke(options, force, x, y, z,
+                        (float) offsetX, (float) offsetY, (float) offsetZ, (float) extra, count);
+            }
+        }
+
+        private void spawn(Player player) {
+            Location location = new Location(world, x, y, z);
+            player.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+        }
+    }
+
+    /**
+     * Queues a particle. This is usually called by {@link ParticleDisplay} with the same arguments
+     * it would use for {@link World#spawnParticle(Particle, Location, int, double, double, double, double, Object, boolean)}
+     *
+     * @param viewers the players that can see this particle, or null for all the nearby players in the world.
+     */
+    public void add(@NotNull Particle particle, @NotNull Location location, int count,
+                    double offsetX, double offsetY, double offsetZ, double extra,
+                    @Nullable Object data, boolean force, @Nullable Player[] viewers) {
+        Objects.requireNonNull(particle, "Cannot add null particle");
+        Objects.requireNonNull(location, "Cannot add particle with null location");
+        World world = location.getWorld();
+        if (viewers == null && world == null) {
+            throw new NullPointerException("Location world is null: " + location + " for " + particle);
+        }
+
+        Entry entry = new Entry(particle, world, location.getX(), location.getY(), location.getZ(), count,
+                offsetX, offsetY, offsetZ, extra, data, force, viewers);
+        synchronized (this) {
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * Queues all the particles spawned by any {@link ParticleDisplay} in the current thread
+     * while the given task is running, instead of spawning them.
+     * This is used to compute particle effects on other threads and spawn them later from the main thread.
+     *
+     * @param task the task that spawns the particles.
+     * @return the result of the task.
+     * @see AsyncParticleAnimation
+     */
+    public boolean capture(@NotNull BooleanSupplier task) {
+        Objects.requireNonNull(task, "Cannot capture particles of null task");
+        ParticleBatch previous = CAPTURING.get();
+        CAPTURING.set(this);
+        try {
+            return task.getAsBoolean();
+        } finally {
+            if (previous == null) CAPTURING.remove();
+            else CAPTURING.set(previous);
+        }
+    }
+
+    /**
+     * @return the batch that the current thread is capturing particles into, if any.
+     * @see #capture(BooleanSupplier)
+     */
+    @Nullable
+    static ParticleBatch capturing() {
+        return CAPTURING.get();
+    }
+
+    /**
+     * @return the number of queued particles.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Sends all the queued particles to the players that can see them and clears the queue.
+     */
+    public void flush() {
+        List<Entry> entries;
+        synchronized (this) {
+            if (this.entries.isEmpty()) return;
+            entries = this.entries;
+            this.entries = new ArrayList<>(entries.size());
+        }
+
+        Map<World, List<Entry>> worlds = new IdentityHashMap<>(1);
+        PacketBatch packets = new PacketBatch();
+
+        try {
+            for (Entry entry : entries) {
+                if (entry.viewers != null) {
+                    Object packet = entry.createPacket();
+                    for (Player viewer : entry.viewers) {
+                        if (packet == null) entry.spawn(viewer);
+                        else packets.add(viewer, packet);
+                    }
+                } else {
+                    worlds.computeIfAbsent(entry.world, k -> new ArrayList<>()).add(entry);
+                }
+            }
+
+            for (Map.Entry<World, List<Entry>> world : worlds.entrySet()) {
+                sendToNearbyPlayers(world.getKey(), world.getValue(), packets);
+            }
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to send particles batch of " + entries.size() + " particles", ex);
+        }
+
+        packets.flush();
+    }
+
+    private static void sendToNearbyPlayers(World world, List<Entry> entries, PacketBatch packets) throws Throwable {
+        // The bounding box of all the particles in this world.
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        double maxViewDistance = VIEW_DISTANCE;
+        for (Entry entry : entries) {
+            minX = Math.min(minX, entry.x);
+            minY = Math.min(minY, entry.y);
+            minZ = Math.min(minZ, entry.z);
+            maxX = Math.max(maxX, entry.x);
+            maxY = Math.max(maxY, entry.y);
+            maxZ = Math.max(maxZ, entry.z);
+            if (entry.force) maxViewDistance = FORCED_VIEW_DISTANCE;
+        }
+
+        // Cull the players only once for the whole frame.
+        List<Player> viewers = new ArrayList<>();
+        List<Location> viewerLocations = new ArrayList<>();
+        double maxViewDistanceSquared = maxViewDistance * maxViewDistance;
+        for (Player player : world.getPlayers()) {
+            Location location = player.getLocation();
+            double dx = Math.max(0, Math.max(minX - location.getX(), location.getX() - maxX));
+            double dy = Math.max(0, Math.max(minY - location.getY(), location.getY() - maxY));
+            double dz = Math.max(0, Math.max(minZ - location.getZ(), location.getZ() - maxZ));
+            if (dx * dx + dy * dy + dz * dz <= maxViewDistanceSquared) {
+                viewers.add(player);
+                viewerLocations.add(location);
+            }
+        }
+        if (viewers.isEmpty()) return;
+
+        for (Entry entry : entries) {
+            Object packet = null;
+            double viewDistanceSquared = entry.viewDistanceSquared();
+
+            for (int i = 0; i < viewers.size(); i++) {
+                Location location = viewerLocations.get(i);
+                double dx = location.getX() - entry.x;
+                double dy = location.getY() - entry.y;
+                double dz = location.getZ() - entry.z;
+                if (dx * dx + dy * dy + dz * dz > viewDistanceSquared) continue;
+
+                Player viewer = viewers.get(i);
+                if (PARTICLES_PACKET == null) {
+                    entry.spawn(viewer);
+                } else {
+                    // Only create the packet if at least one player can see it.
+                    if (packet == null) packet = entry.createPacket();
+                    packets.add(viewer, packet);
+                }
+            }
+        }
+    }
+}
@@ -234,6 +234,13 @@ public class ParticleDisplay {
     public List<List<Rotation>> rotations = new ArrayList<>();
     @Nullable
     private List<Quaternion> cachedFinalRotationQuaternions;
+    /**
+     * All the {@link #rotations} combined into a single row-major 3x3 matrix.
+     *
+     * @see #getRotationMatrix(boolean)
+     */
+    @Nullable
+    private double[] cachedRotationMatrix;
     @Nullable
     private ParticleData data;
     @Nullable
@@ -244,6 +251,49 @@ public class ParticleDisplay {
     private Function<Double, Double> onAdvance;
     @Nullable
     private Set<Player> players;
+    /**
+     * If set, particles are recorded into a {@link ParticleShape} instead of being spawned.
+     */
+    @Nullable
+    ParticleShape.Recorder recorder;
+    /**
+     * If set, particles are queued into this batch instead of being spawned directly.
+     */
+    @Nullable
+    private ParticleBatch batch;
+    /**
+     * The level of detail used when spawning {@link ParticleShape}s.
+     */
+    @Nullable
+    private ParticleLOD lod;
+    /**
+     * A snapshot of {@link #players} that is taken once for all the particles of a shape.
+     */
+    @Nullable
+    private Player[] viewers;
+    /**
+     * The Bukkit data resolved from {@link #data} for the current particle and extra.
+     * Resolving the data can create new objects such as {@link Particle.DustOptions}, so it's only
+     * resolved again when any of the properties that it depends on changes.
+     * Data that isn't {@link ParticleData#isCacheable() cacheable} is resolved for every particle.
+     *
+     * @see #resolveData(Particle)
+     */
+    @Nullable
+    private ParticleData resolvedSource;
+    private XParticle resolvedParticle;
+    private double resolvedExtra;
+    @Nullable
+    private Vector resolvedOffsetData;
+    @Nullable
+    private Object resolvedData;
+    /**
+     * The {@link #defaultRequiredData(Particle, Location)} of the last spawned particle.
+     */
+    @Nullable
+    private Particle defaultDataParticle;
+    @Nullable
+    private Object defaultData;
 
     /**
      * Builds a simple ParticleDisplay object with cross-version
@@ -963,6 +1013,51 @@ public class ParticleDisplay {
         return this;
     }
 
+    /**
+     * Queues all the particles of this display into the given batch instead of spawning them directly.
+     * The particles will not be visible until {@link ParticleBatch#flush()} is called.
+     *
+     * @param batch the batch to queue the particles into, or null to spawn them directly.
+     * @return the same particle display, but modified.
+     * @since 14.2.0
+     */
+    @NotNull
+    public ParticleDisplay withBatch(@Nullable ParticleBatch batch) {
+        this.batch = batch;
+        return this;
+    }
+
+    /**
+     * @since 14.2.0
+     */
+    @Nullable
+    public ParticleBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Reduces the number of particles of {@link #spawn(ParticleShape) spawned shapes} for
+     * viewers that are further away or not looking at the shape.
+     *
+     * @param lod the level of detail settings, or null to always spawn all the points.
+     * @return the same particle display, but modified.
+     * @see ParticleLOD#DEFAULT
+     * @since 14.2.0
+     */
+    @NotNull
+    public ParticleDisplay withLOD(@Nullable ParticleLOD lod) {
+        this.lod = lod;
+        return this;
+    }
+
+    /**
+     * @since 14.2.0
+     */
+    @Nullable
+    public ParticleLOD getLOD() {
+        return lod;
+    }
+
     /**
      * Adds color and size properties to the particle settings.
      * The particle must be {@link Particle#DUST}
@@ -1304,6 +1399,9 @@ public class ParticleDisplay {
             display.rotations = new ArrayList<>(this.rotations);
         }
         display.data = data;
+        display.recorder = recorder;
+        display.batch = batch;
+        display.lod = lod;
         return display;
     }
 
@@ -1381,7 +1479,10 @@ public class ParticleDisplay {
     @NotNull
     public List<Quaternion> getRotation(boolean forceUpdate) {
         if (this.rotations.isEmpty()) return new ArrayList<>();
-        if (forceUpdate) cachedFinalRotationQuaternions = null;
+        if (forceUpdate) {
+            cachedFinalRotationQuaternions = null;
+            cachedRotationMatrix = null;
+        }
         if (cachedFinalRotationQuaternions == null) {
             this.cachedFinalRotationQuaternions = new ArrayList<>();
 
@@ -1399,6 +1500,43 @@ public class ParticleDisplay {
         return cachedFinalRotationQuaternions;
     }
 
+    /**
+     * Gets all the rotations combined into a single row-major 3x3 rotation matrix.
+     * Rotating a point with this matrix using {@link Quaternion#transform(double[], double[])}
+     * gives the same result as rotating it with each quaternion of {@link #getRotation(boolean)} in order.
+     *
+     * @param forceUpdate whether to update the cached rotation matrix.
+     *                    Used when {@link #rotations} are modified directly.
+     * @return a copy of the matrix, or null if there are no rotations.
+     * @since 14.2.0
+     */
+    @Nullable
+    public double[] getRotationMatrix(boolean forceUpdate) {
+        double[] matrix = rotationMatrix(forceUpdate);
+        return matrix == null ? null : matrix.clone();
+    }
+
+    @Nullable
+    private double[] rotationMatrix(boolean forceUpdate) {
+        if (this.rotations.isEmpty()) return null;
+        if (forceUpdate) cachedRotationMatrix = null;
+        if (cachedRotationMatrix == null) {
+            double[] matrix = null;
+            for (Quaternion grouped : getRotation(forceUpdate)) {
+                double[] groupMatrix = grouped.toRotationMatrix();
+                matrix = matrix == null ? groupMatrix : Quaternion.multiply(groupMatrix, matrix);
+            }
+            cachedRotationMatrix = matrix;
+        }
+
+        return cachedRotationMatrix;
+    }
+
+    private void invalidateRotations() {
+        this.cachedFinalRotationQuaternions = null;
+        this.cachedRotationMatrix = null;
+    }
+
     /**
      * Rotates the particle position based on this XYZ vector without overriding previous rotations.
      * The xyz values must be <b>radians</b> which represent the angles
@@ -1426,7 +1564,7 @@ public class ParticleDisplay {
             List<Rotation> finalRots = Arrays.stream(rotations).filter(x -> x.angle != 0).collect(Collectors.toList());
             if (!finalRots.isEmpty()) {
                 this.rotations.add(finalRots);
-                if (this.cachedFinalRotationQuaternions != null) this.cachedFinalRotationQuaternions.clear();
+                invalidateRotations();
             }
         }
 
@@ -1440,7 +1578,7 @@ public class ParticleDisplay {
         Objects.requireNonNull(rotation, "Null rotation");
         if (rotation.angle != 0) {
             this.rotations.add(Collections.singletonList(rotation));
-            if (this.cachedFinalRotationQuaternions != null) this.cachedFinalRotationQuaternions.clear();
+            invalidateRotations();
         }
 
         return this;
@@ -1464,33 +1602,95 @@ public class ParticleDisplay {
      */
     @Nullable
     public Location finalizeLocation(@Nullable Vector local) {
-        CalculationContext preContext = new CalculationContext(location, local);
+        CalculationContext context = new CalculationContext(location, local);
 
-        if (this.preCalculation != null) this.preCalculation.accept(preContext);
-        if (!preContext.shouldSpawn) return null;
+        if (this.preCalculation != null) this.preCalculation.accept(context);
+        if (!context.shouldSpawn) return null;
 
-        Location location = preContext.location;
+        Location location = context.location;
         if (location == null) throw new IllegalStateException("Attempting to spawn particle when no location is set");
         // Exception check after preCalculation to account for dynamic location callers from withEntity()
 
-        local = preContext.local;
+        local = context.local;
         if (local != null && !rotations.isEmpty()) {
-            List<Quaternion> rotations = getRotation(false);
-            for (Quaternion grouped : rotations) {
-                local = Quaternion.rotate(local, grouped);
-            }
+            double[] m = rotationMatrix(false);
+            double x = local.getX(), y = local.getY(), z = local.getZ();
+            local = new Vector(
+                    m[0] * x + m[1] * y + m[2] * z,
+                    m[3] * x + m[4] * y + m[5] * z,
+                    m[6] * x + m[7] * y + m[8] * z
+            );
         }
 
         location = cloneLocation(location);
         if (local != null) location.add(local);
 
-        CalculationContext postContext = new CalculationContext(location, local);
-        if (this.postCalculation != null) this.postCalculation.accept(postContext);
-        if (!postContext.shouldSpawn) return null;
+        if (this.postCalculation != null) {
+            context = new CalculationContext(location, local);
+            this.postCalculation.accept(context);
+            if (!context.shouldSpawn) return null;
+        }
 
         return location;
     }
 
+    /**
+     * Same as {@link #finalizeLocation(Vector)} but without creating any intermediate objects
+     * when there are no {@link #preCalculation(Consumer) pre} or {@link #postCalculation(Consumer) post}
+     * calculation callbacks.
+     *
+     * @return a new rotated location.
+     * @since 14.2.0
+     */
+    @Nullable
+    public Location finalizeLocation(double x, double y, double z) {
+        return finalizeLocation(x, y, z, null);
+    }
+
+    /**
+     * @param target the location object to store the result in, or null to create a new one.
+     */
+    @Nullable
+    private Location finalizeLocation(double x, double y, double z, @Nullable Location target) {
+        // The callbacks are allowed to change the vector and location objects.
+        if (preCalculation != null || postCalculation != null) return finalizeLocation(new Vector(x, y, z));
+
+        Location location = this.location;
+        if (location == null) throw new IllegalStateException("Attempting to spawn particle when no location is set");
+        return transformLocation(location, x, y, z, target);
+    }
+
+    /**
+     * Rotates the given xyz and adds them to the location without running any calculation callbacks.
+     *
+     * @param target the location object to store the result in, or null to create a new one.
+     */
+    @NotNull
+    private Location transformLocation(@NotNull Location location, double x, double y, double z, @Nullable Location target) {
+        double[] m = rotationMatrix(false);
+        if (m != null) {
+            double rx = m[0] * x + m[1] * y + m[2] * z;
+            double ry = m[3] * x + m[4] * y + m[5] * z;
+            double rz = m[6] * x + m[7] * y + m[8] * z;
+            x = rx;
+            y = ry;
+            z = rz;
+        }
+
+        x += location.getX();
+        y += location.getY();
+        z += location.getZ();
+        if (target == null) return new Location(location.getWorld(), x, y, z, location.getYaw(), location.getPitch());
+
+        target.setWorld(location.getWorld());
+        target.setX(x);
+        target.setY(y);
+        target.setZ(z);
+        target.setYaw(location.getYaw());
+        target.setPitch(location.getPitch());
+        return target;
+    }
+
     public final class CalculationContext {
         private Location location;
         private Vector local;
@@ -1636,13 +1836,129 @@ public class ParticleDisplay {
 
     /**
      * Adds xyz to the cloned location before spawning particle.
+     * <p>
+     * The returned location is always a new object, since callers are allowed to keep it,
+     * and the {@link #preCalculation(Consumer) calculation callbacks} still receive a new vector.
+     * Use {@link #spawn(ParticleShape)} to spawn many points without creating objects for each one.
      *
      * @return the location the particle was spawned at.
      * @since 1.0.0
      */
     @Nullable
     public Location spawn(double x, double y, double z) {
-        return spawn(finalizeLocation(new Vector(x, y, z)));
+        return spawn(finalizeLocation(x, y, z, null));
+    }
+
+    /**
+     * Spawns all the points of a precomputed shape relative to the current location
+     * with the rotations and calculation callbacks of this display applied to each point.
+     * If the shape has particle directions or colors, they're used instead of the ones
+     * set for this display for the points that have them.
+     * <p>
+     * If a {@link #withLOD(ParticleLOD) level of detail} is set, each viewer receives
+     * a decimated version of the shape based on their distance to the shape.
+     * The distance is measured from the rotated center of the shape at {@link #getLocation()},
+     * so displays that only get their location from a {@link #withLocationCaller(Callable) location caller}
+     * are spawned without a level of detail.
+     *
+     * @param shape the shape to spawn.
+     * @see ParticleShape#record(Consumer)
+     * @since 14.2.0
+     */
+    public void spawn(@NotNull ParticleShape shape) {
+        Objects.requireNonNull(shape, "Cannot spawn null shape");
+
+        if (lod != null && recorder == null && spawnWithLOD(shape)) return;
+        spawn(shape, players != null && !players.isEmpty() ? players.toArray(new Player[0]) : null);
+    }
+
+    /**
+     * Buckets the viewers by their level of detail and spawns the decimated shape for each bucket.
+     *
+     * @return false if the location of the shape is unknown.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean spawnWithLOD(ParticleShape shape) {
+        ParticleLOD lod = this.lod;
+        // The callbacks are meant for the points, not the bounding sphere of the shape.
+        Location origin = this.location;
+        if (origin == null) return false;
+        Location center = transformLocation(origin, shape.getCenterX(), shape.getCenterY(), shape.getCenterZ(), null);
+
+        Collection<? extends Player> candidates = players;
+        if (candidates == null || candidates.isEmpty()) {
+            World world = center.getWorld();
+            if (world == null) throw new NullPointerException("Location world is null: " + center + " for " + this);
+            candidates = world.getPlayers();
+        }
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double radius = shape.getRadius();
+        List<Player>[] buckets = new List[lod.levels()];
+        for (Player player : candidates) {
+            Location eye = player.getEyeLocation();
+            if (eye.getWorld() != center.getWorld()) continue;
+
+            double dx = eye.getX() - x, dy = eye.getY() - y, dz = eye.getZ() - z;
+            double distance = Math.max(0, Math.sqrt(dx * dx + dy * dy + dz * dz) - radius);
+            int level = lod.getLevel(distance);
+            if (level == -1 || !lod.isInView(eye, x, y, z, radius)) continue;
+
+            if (buckets[level] == null) buckets[level] = new ArrayList<>();
+            buckets[level].add(player);
+        }
+
+        for (int level = 0; level < buckets.length; level++) {
+            List<Player> bucket = buckets[level];
+            if (bucket != null) spawn(shape.decimate(lod.getStep(level)), bucket.toArray(new Player[0]));
+        }
+        return true;
+    }
+
+    /**
+     * @param viewers the players to spawn the shape for, or null for all the nearby players.
+     */
+    private void spawn(ParticleShape shape, @Nullable Player[] viewers) {
+        Vector originalDirection = this.particleDirection;
+        ParticleData originalData = this.data;
+        double originalExtra = this.extra;
+
+        // All the points are spawned with the same objects, since the spawn methods don't store them.
+        Location frame = new Location(null, 0, 0, 0);
+        Vector direction = shape.hasDirections() ? new Vector() : null;
+        if (direction != null && extra == 0) extra = 1; // Same as particleDirection(Vector)
+        int lastColor = 0;
+        ParticleData lastColorData = null;
+
+        this.viewers = viewers;
+        try {
+            for (int i = 0, size = shape.size(); i < size; i++) {
+                if (shape.hasDirection(i)) {
+                    this.particleDirection = direction.setX(shape.getDirectionX(i)).setY(shape.getDirectionY(i)).setZ(shape.getDirectionZ(i));
+                } else {
+                    this.particleDirection = originalDirection;
+                }
+
+                int color = shape.getColor(i);
+                if (color == 0) {
+                    this.data = originalData;
+                } else {
+                    if (color != lastColor || lastColorData == null) {
+                        lastColor = color;
+                        lastColorData = new RGBParticleColor(new Color(color, true));
+                    }
+                    this.data = lastColorData;
+                }
+
+                spawn(finalizeLocation(shape.getX(i), shape.getY(i), shape.getZ(i), frame));
+            }
+        } finally {
+            this.viewers = null;
+            this.particleDirection = originalDirection;
+            this.data = originalData;
+            this.extra = originalExtra;
+            if (lastLocation == frame) lastLocation = cloneLocation(frame);
+        }
     }
 
     /**
@@ -1667,6 +1983,11 @@ public class ParticleDisplay {
         if (loc == null) return null;
         lastLocation = loc;
 
+        if (recorder != null) {
+            recorder.record(this, loc);
+            return loc;
+        }
+
         Particle particle = this.particle.get();
         Objects.requireNonNull(particle, () -> "Cannot spawn unsupported particle: " + particle);
 
@@ -1676,15 +1997,16 @@ public class ParticleDisplay {
 
         Object data = null;
         if (this.data != null) {
-            this.data = this.data.transform(this);
-            Vector offsetData = this.data.offsetValues(this);
+            if (this.data != resolvedSource || this.particle != resolvedParticle || this.extra != resolvedExtra
+                    || !this.data.isCacheable()) {
+                resolveData(particle);
+            }
+            Vector offsetData = resolvedOffsetData;
             if (offsetData != null) {
                 spawnWithDataInOffset(particle, loc, offsetData, null);
                 return loc;
             }
-            data = this.data.data(this);
-            // Checks without data or block crack, block dust, falling dust, item crack or if data isn't right type
-            if (!particle.getDataType().isInstance(data)) data = null;
+            data = resolvedData;
         }
 
         if (particleDirection != null) {
@@ -1697,6 +2019,42 @@ public class ParticleDisplay {
         return loc;
     }
 
+    /**
+     * Resolves the Bukkit data of {@link #data} and caches it until the data, particle or extra changes.
+     * The cache is ignored if the data isn't {@link ParticleData#isCacheable() cacheable}.
+     */
+    private void resolveData(Particle particle) {
+        this.data = this.data.transform(this);
+        Vector offsetData = this.data.offsetValues(this);
+        Object data = null;
+        if (offsetData == null) {
+            data = this.data.data(this);
+            // Checks without data or block crack, block dust, falling dust, item crack or if data isn't right type
+            if (!particle.getDataType().isInstance(data)) data = null;
+        }
+
+        this.resolvedSource = this.data;
+        this.resolvedParticle = this.particle;
+        this.resolvedExtra = this.extra;
+        this.resolvedOffsetData = offsetData;
+        this.resolvedData = data;
+    }
+
+    /**
+     * Same as {@link #defaultRequiredData(Particle, Location)}, but reuses the data if it doesn't depend on the location.
+     */
+    private Object defaultData(Particle particle, Location loc) {
+        if (particle == defaultDataParticle) return defaultData;
+
+        Object data = defaultRequiredData(particle, loc);
+        Class<?> dataType = particle.getDataType();
+        if (dataType != Vibration && dataType != Particle$Trail) {
+            this.defaultDataParticle = particle;
+            this.defaultData = data;
+        }
+        return data;
+    }
+
     /**
      * Spawns the particles with specific data in the offset fields.
      * If required, this method will manually calculate an offset for
@@ -1717,6 +2075,7 @@ public class ParticleDisplay {
         double offsetY = offset.getY();
         double offsetZ = offset.getZ();
         ThreadLocalRandom r = ThreadLocalRandom.current();
+        Location offsetLoc = cloneLocation(loc);
         for (int i = 0; i < count; i++) {
             // When specifying an offset normally, bound of 1 gets you an 8 block range,
             // being +/- 4 blocks in each direction from the origin. Uses a Gaussian distribution.
@@ -1724,7 +2083,9 @@ public class ParticleDisplay {
             double dx = offsetX == 0 ? 0 : r.nextGaussian() * offsetX;
             double dy = offsetY == 0 ? 0 : r.nextGaussian() * offsetY;
             double dz = offsetZ == 0 ? 0 : r.nextGaussian() * offsetZ;
-            Location offsetLoc = cloneLocation(loc).add(dx, dy, dz);
+            offsetLoc.setX(loc.getX() + dx);
+            offsetLoc.setY(loc.getY() + dy);
+            offsetLoc.setZ(loc.getZ() + dz);
             spawnRaw(particle, offsetLoc, 0, offsetData, data);
         }
     }
@@ -1746,16 +2107,26 @@ public class ParticleDisplay {
         }
         if (IS_FLAT && data == null && particle.getDataType() != Void.class) {
             // Apply some defaults. There is no reason to throw errors for simple particle spawning.
-            data = defaultRequiredData(particle, loc);
+            data = defaultData(particle, loc);
         }
-        if (players == null || players.isEmpty()) {
-            World world = Objects.requireNonNull(loc.getWorld(), "Location world is null: " + loc + " for " + this);
+        Player[] viewers = this.viewers;
+        if (viewers == null && players != null && !players.isEmpty()) {
+            // We copy this to avoid concurrent modification.
+            viewers = players.toArray(new Player[0]);
+        }
+
+        ParticleBatch batch = this.batch;
+        if (batch == null) batch = ParticleBatch.capturing();
+        if (batch != null) {
+            batch.add(particle, loc, count, dx, dy, dz, extra, data, IS_FLAT && force, viewers);
+        } else if (viewers == null) {
+            World world = loc.getWorld();
+            if (world == null) throw new NullPointerException("Location world is null: " + loc + " for " + this);
 
             if (IS_FLAT) world.spawnParticle(particle, loc, count, dx, dy, dz, extra, data, force);
             else world.spawnParticle(particle, loc, count, dx, dy, dz, extra, data);
         } else {
-            // We copy this to avoid concurrent modification.
-            for (Player player : players.toArray(new Player[0]))
+            for (Player player : viewers)
                 player.spawnParticle(particle, loc, count, dx, dy, dz, extra, data);
         }
     }
@@ -1911,6 +2282,83 @@ public class ParticleDisplay {
             return new Quaternion(n0, n1, n2, n3);
         }
 
+        /**
+         * Rotates the given point in place using this rotation quaternion.
+         * This is the same as {@link #rotate(Vector, Quaternion)} for unit quaternions.
+         * To rotate many points, use {@link #toRotationMatrix()} once with {@link #transform(double[], double[])} instead.
+         *
+         * @param point the xyz of the point.
+         * @since 14.2.0
+         */
+        public void rotate(double[] point) {
+            transform(toRotationMatrix(), point);
+        }
+
+        /**
+         * Converts this rotation quaternion to a row-major 3x3 rotation matrix that
+         * rotates points the same way as {@link #rotate(double[])}.
+         * Note that this only works for unit quaternions.
+         *
+         * @see #transform(double[], double[])
+         * @since 14.2.0
+         */
+        public double[] toRotationMatrix() {
+            // rotate(Vector, Quaternion) is equivalent to rotating by the conjugate of this quaternion,
+            // since mul() multiplies in the reverse order.
+            double qx = -this.x, qy = -this.y, qz = -this.z;
+            double x = qx * 2;
+            double y = qy * 2;
+            double z = qz * 2;
+            double xx = qx * x;
+            double yy = qy * y;
+            double zz = qz * z;
+            double xy = qx * y;
+            double xz = qx * z;
+            double yz = qy * z;
+            double wx = this.w * x;
+            double wy = this.w * y;
+            double wz = this.w * z;
+
+            return new double[]{
+                    1 - (yy + zz), xy - wz, xz + wy,
+                    xy + wz, 1 - (xx + zz), yz - wx,
+                    xz - wy, yz + wx, 1 - (xx + yy)
+            };
+        }
+
+        /**
+         * Multiplies two row-major 3x3 matrices.
+         * The resulting matrix applies the {@code right} matrix first and then the {@code left} one.
+         *
+         * @since 14.2.0
+         */
+        public static double[] multiply(double[] left, double[] right) {
+            double[] result = new double[9];
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 3; column++) {
+                    result[row * 3 + column] =
+                            left[row * 3] * right[column] +
+                                    left[row * 3 + 1] * right[3 + column] +
+                                    left[row * 3 + 2] * right[6 + column];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Transforms the given point in place using a row-major 3x3 matrix.
+         *
+         * @param matrix the matrix, e.g. {@link #toRotationMatrix()} or {@link ParticleDisplay#getRotationMatrix(boolean)}
+         * @param point  the xyz of the point.
+         * @since 14.2.0
+         */
+        public static void transform(double[] matrix, double[] point) {
+            double x = point[0], y = point[1], z = point[2];
+            point[0] = matrix[0] * x + matrix[1] * y + matrix[2] * z;
+            point[1] = matrix[3] * x + matrix[4] * y + matrix[5] * z;
+            point[2] = matrix[6] * x + matrix[7] * y + matrix[8] * z;
+        }
+
         public Vector mul(Vector point) {
             // https://github.com/Unity-Technologies/UnityCsReference/blob/7c95a72366b5ed9b6d9e804de8b5e869c962f5a9/Runtime/Export/Math/Quaternion.cs#L96-L117
             double x = this.x * 2;
@@ -1999,6 +2447,20 @@ public class ParticleDisplay {
         default ParticleData transform(ParticleDisplay display) {
             return this;
         }
+
+        /**
+         * Whether the results of {@link #transform(ParticleDisplay)}, {@link #offsetValues(ParticleDisplay)}
+         * and {@link #data(ParticleDisplay)} only depend on this object and the particle type and extra of the display.
+         * If so, the display resolves them once and reuses them until its data, particle or extra changes.
+         * <p>
+         * Implementations whose state can change after they're set as the data of a display,
+         * or that depend on other properties of the display, should keep the default value.
+         *
+         * @since 14.2.0
+         */
+        default boolean isCacheable() {
+            return false;
+        }
     }
 
     public static class RGBParticleColor implements ParticleData {
@@ -2012,6 +2474,10 @@ public class ParticleDisplay {
             this(new Color(r, g, b));
         }
 
+        public Color getColor() {
+            return color;
+        }
+
         @Override
         public Vector offsetValues(ParticleDisplay display) {
             // All particles that supported color used offset fields for them before the flattening.
@@ -2079,6 +2545,11 @@ public class ParticleDisplay {
             }
             return this;
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 
     public static class DustTransitionParticleColor implements ParticleData {
@@ -2110,6 +2581,11 @@ public class ParticleDisplay {
             colorJoiner.add(Integer.toString(toColor.getBlue()));
             section.set("color", colorJoiner.toString());
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 
     /**
@@ -2149,6 +2625,11 @@ public class ParticleDisplay {
             }
             return new RGBParticleColor(NOTE_COLORS[note]);
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 
     public static class ParticleBlockData implements ParticleData {
@@ -2167,6 +2648,11 @@ public class ParticleDisplay {
         public void serialize(ConfigurationSection section) {
             section.set("blockdata", blockData.getMaterial().name());
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 
     @SuppressWarnings("deprecation")
@@ -2186,6 +2672,11 @@ public class ParticleDisplay {
         public void serialize(ConfigurationSection section) {
             section.set("materialdata", materialData.getItemType().name());
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 
     public static class ParticleItemData implements ParticleData {
@@ -2204,6 +2695,11 @@ public class ParticleDisplay {
         public void serialize(ConfigurationSection section) {
             section.set("itemstack", item.getType());
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 
     public static final class ConstantParticleData implements ParticleData {
@@ -2226,5 +2722,10 @@ public class ParticleDisplay {
             // Currently with no proper deserialization.
             section.set("data", data);
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,300 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.particles;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+
+/**
+ * Ticks many particle effects from a single task instead of scheduling a separate task for each effect.
+ * Each tick has a time budget. When it's exceeded, the remaining effects are deferred
+ * to the next tick in order of their {@link Priority}, and the deferred effects will be
+ * the first ones to run in the next tick.
+ * <pre>{@code
+ * ParticleEffectScheduler scheduler = new ParticleEffectScheduler(2, TimeUnit.MILLISECONDS);
+ * scheduler.runTaskTimer(plugin);
+ *
+ * ParticleEffectScheduler.Effect effect = scheduler.register(plugin, Particles.helix(...), ParticleEffectScheduler.Priority.NORMAL);
+ * effect.cancel();
+ * }</pre>
+ * Effects can be registered and cancelled from any thread, but they're always called
+ * from the thread that ticks the scheduler. The {@link BooleanSupplier} animations
+ * of {@link Particles} and {@link AsyncParticleAnimation} can be registered directly.
+ * For <a href="https://papermc.io/software/folia">Folia</a>, {@link #tick()} should be called from the region that owns the effects.
+ *
+ * @since 14.2.0
+ */
+public final class ParticleEffectScheduler {
+    /**
+     * The order that effects run in each tick. Effects with {@link #HIGH} priority always run, even if the budget is exceeded.
+     */
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    private final long budgetNanos;
+    private final ConcurrentLinkedQueue<Effect> pending = new ConcurrentLinkedQueue<>();
+    /**
+     * The effects of each priority, only accessed from the ticking thread.
+     */
+    @SuppressWarnings("unchecked")
+    private final List<Effect>[] effects = new List[Priority.values().length];
+    /**
+     * The index of the next effect to run for each priority, so deferred effects run first in the next tick.
+     */
+    private final int[] cursors = new int[Priority.values().length];
+    private final Map<String, PluginMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * @param budget the maximum time that the effects can run in each tick.
+     */
+    public ParticleEffectScheduler(long budget, @NotNull TimeUnit unit) {
+        if (budget <= 0) throw new IllegalArgumentException("Tick budget must be positive: " + budget + ' ' + unit);
+        this.budgetNanos = unit.toNanos(budget);
+        for (int i = 0; i < effects.length; i++) effects[i] = new ArrayList<>();
+    }
+
+    /**
+     * A registered effect.
+     */
+    public final class Effect {
+        private final Plugin plugin;
+        private final BooleanSupplier effect;
+        private final Priority priority;
+        private final PluginMetrics metrics;
+        private volatile boolean cancelled;
+
+        private Effect(Plugin plugin, BooleanSupplier effect, Priority priority) {
+            this.plugin = plugin;
+            this.effect = effect;
+            this.priority = priority;
+            this.metrics = ParticleEffectScheduler.this.metrics.computeIfAbsent(plugin.getName(), k -> new PluginMetrics());
+        }
+
+        /**
+         * Stops the effect. It'll be removed in the next tick.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @NotNull
+        public Plugin getPlugin() {
+            return plugin;
+        }
+
+        @NotNull
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+
+    /**
+     * The number of effects and the time spent running them for a single plugin.
+     */
+    public static final class PluginMetrics {
+        private final AtomicInteger effects = new AtomicInteger();
+        private final LongAdder runs = new LongAdder(), nanos = new LongAdder(), deferred = new LongAdder();
+
+        /**
+         * @return the number of effects that are currently registered.
+         */
+        public int getEffects() {
+            return effects.get();
+        }
+
+        /**
+         * @return the number of times that the effects were run.
+         */
+        public long getRuns() {
+            return runs.sum();
+        }
+
+        /**
+         * @return the total CPU time that was spent running the effects.
+         */
+        public long getTotalTime(@NotNull TimeUnit unit) {
+            return unit.convert(nanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return the number of times that the effects were deferred to the next tick because the budget was exceeded.
+         */
+        public long getDeferred() {
+            return deferred.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "PluginMetrics{effects=" + getEffects() + ", runs=" + getRuns() +
+                    ", totalTime=" + getTotalTime(TimeUnit.MICROSECONDS) + "us, deferred=" + getDeferred() + '}';
+        }
+    }
+
+    /**
+     * @param plugin   the plugin that owns the effect, used for metrics and error logging.
+     * @param effect   the effect that is called every tick until it returns false.
+     * @param priority the order of this effect when the tick is over budget.
+     * @return the handle to cancel the effect.
+     */
+    @NotNull
+    public Effect register(@NotNull Plugin plugin, @NotNull BooleanSupplier effect, @NotNull Priority priority) {
+        Objects.requireNonNull(plugin, "Effect plugin cannot be null");
+        Objects.requireNonNull(effect, "Effect cannot be null");
+        Objects.requireNonNull(priority, "Effect priority cannot be null");
+
+        Effect registered = new Effect(plugin, effect, priority);
+        registered.metrics.effects.incrementAndGet();
+        pending.add(registered);
+        return registered;
+    }
+
+    @NotNull
+    public Effect register(@NotNull Plugin plugin, @NotNull BooleanSupplier effect) {
+        return register(plugin, effect, Priority.NORMAL);
+    }
+
+    /**
+     * @return the metrics of each plugin by their name.
+     */
+    @NotNull
+    public Map<String, PluginMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Runs all the registered effects once, or as many as the time budget allows.
+     * This should be called every tick.
+     */
+    public void tick() {
+        Effect added;
+        while ((added = pending.poll()) != null) {
+            effects[added.priority.ordinal()].add(added);
+        }
+
+        long start = System.nanoTime();
+        boolean overBudget = false;
+        for (int priority = 0; priority < effects.length; priority++) {
+            List<Effect> effects = this.effects[priority];
+            int size = effects.size();
+            if (size == 0) continue;
+
+            boolean alwaysRun = priority == Priority.HIGH.ordinal();
+            int cursor = cursors[priority] % size;
+            int ran = 0;
+
+            for (; ran < size; ran++) {
+                if (!alwaysRun && (overBudget || System.nanoTime() - start >= budgetNanos)) {
+                    overBudget = true;
+                    break;
+                }
+                run(effects.get((cursor + ran) % size));
+            }
+
+            if (ran < size) {
+                for (int i = ran; i < size; i++) effects.get((cursor + i) % size).metrics.deferred.increment();
+                cursors[priority] = (cursor + ran) % size;
+            } else {
+                cursors[priority] = 0;
+            }
+
+            removeCancelled(priority);
+        }
+    }
+
+    private void run(Effect effect) {
+        if (effect.cancelled) return;
+
+        long start = System.nanoTime();
+        try {
+            if (!effect.effect.getAsBoolean()) effect.cancelled = true;
+        } catch (Throwable ex) {
+            effect.cancelled = true;
+            effect.plugin.getLogger().log(Level.SEVERE, "Particle effect " + effect.effect + " threw an exception and was cancelled", ex);
+        } finally {
+            effect.metrics.nanos.add(System.nanoTime() - start);
+            effect.metrics.runs.increment();
+        }
+    }
+
+    /**
+     * Removes the cancelled effects while keeping the cursor on the same effect.
+     */
+    private void removeCancelled(int priority) {
+        List<Effect> effects = this.effects[priority];
+        int cursor = cursors[priority];
+        int kept = 0;
+        for (int i = 0; i < effects.size(); i++) {
+            Effect effect = effects.get(i);
+            if (effect.cancelled) {
+                effect.metrics.effects.decrementAndGet();
+                if (i < cursor) cursors[priority]--;
+            } else {
+                effects.set(kept++, effect);
+            }
+        }
+        effects.subList(kept, effects.size()).clear();
+    }
+
+    /**
+     * This should only be called from the thread that ticks the scheduler.
+     *
+     * @return the number of effects that are registered.
+     */
+    public int size() {
+        int size = pending.size();
+        for (Priority priority : Priority.values()) size += effects[priority.ordinal()].size();
+        return size;
+    }
+
+    /**
+     * Ticks this scheduler every tick on the main thread.
+     *
+     * @param plugin the plugin that owns the task.
+     * @return the task ticking the scheduler.
+     */
+    @NotNull
+    public BukkitTask runTaskTimer(@NotNull Plugin plugin) {
+        return new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 0, 1);
+    }
+}
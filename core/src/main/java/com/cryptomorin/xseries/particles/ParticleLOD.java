@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.particles;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Level of detail settings for spawning {@link ParticleShape}s.
+ * Viewers are bucketed by their distance to the shape, and each bucket receives a
+ * {@link ParticleShape#decimate(int) decimated} version of the shape, so players that are
+ * further away receive fewer particles. Viewers that are too far away or not looking
+ * towards the shape don't receive any particles.
+ * <pre>{@code
+ * ParticleLOD lod = new ParticleLOD.Builder()
+ *         .level(10, 1)  // Full detail up to 10 blocks away
+ *         .level(20, 2)  // Half of the points up to 20 blocks away
+ *         .level(32, 4)  // A quarter of the points up to 32 blocks away
+ *         .viewAngle(140)
+ *         .build();
+ * display.withLOD(lod).spawn(shape);
+ * }</pre>
+ * Note that the client doesn't render particles that are more than 32 blocks away
+ * unless they're {@link ParticleDisplay#forceSpawn(boolean) forced}.
+ * <p>
+ * This class is immutable.
+ *
+ * @see ParticleDisplay#withLOD(ParticleLOD)
+ * @since 14.2.0
+ */
+public final class ParticleLOD {
+    /**
+     * Full detail up to 12 blocks, half up to 24 blocks and a quarter up to 32 blocks,
+     * only for players that are looking towards the shape.
+     */
+    public static final ParticleLOD DEFAULT = new Builder().level(12, 1).level(24, 2).level(32, 4).viewAngle(140).build();
+
+    private final double[] distances;
+    private final int[] steps;
+    /**
+     * Half of the view angle in radians, or {@link Double#NaN} if view culling is disabled.
+     */
+    private final double halfViewAngle;
+
+    private ParticleLOD(double[] distances, int[] steps, double halfViewAngle) {
+        this.distances = distances;
+        this.steps = steps;
+        this.halfViewAngle = halfViewAngle;
+    }
+
+    /**
+     * @return the number of detail levels.
+     */
+    public int levels() {
+        return steps.length;
+    }
+
+    /**
+     * @param distance the distance between the viewer and the closest point of the shape.
+     * @return the index of the detail level for this distance, or -1 if the shape is too far away.
+     */
+    public int getLevel(double distance) {
+        for (int i = 0; i < distances.length; i++) {
+            if (distance <= distances[i]) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the {@link ParticleShape#decimate(int) decimation} step of the given level.
+     */
+    public int getStep(int level) {
+        return steps[level];
+    }
+
+    public double getMaxDistance() {
+        return distances[distances.length - 1];
+    }
+
+    /**
+     * Checks if any part of a sphere is inside the viewer's view cone.
+     *
+     * @param eye    the eye location of the viewer.
+     * @param x      the x coordinate of the center of the sphere.
+     * @param radius the radius of the sphere.
+     * @return true if view culling is disabled or the sphere is in view.
+     */
+    public boolean isInView(@NotNull Location eye, double x, double y, double z, double radius) {
+        if (Double.isNaN(halfViewAngle)) return true;
+
+        double dx = x - eye.getX();
+        double dy = y - eye.getY();
+        double dz = z - eye.getZ();
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance <= radius) return true;
+
+        // Same as Location#getDirection()
+        double yaw = Math.toRadians(eye.getYaw());
+        double pitch = Math.toRadians(eye.getPitch());
+        double xz = Math.cos(pitch);
+        double dirX = -xz * Math.sin(yaw);
+        double dirY = -Math.sin(pitch);
+        double dirZ = xz * Math.cos(yaw);
+
+        double cos = (dx * dirX + dy * dirY + dz * dirZ) / distance;
+        double angle = Math.acos(Math.max(-1, Math.min(1, cos)));
+        return angle <= halfViewAngle + Math.asin(radius / distance);
+    }
+
+    @Override
+    public String toString() {
+        return "ParticleLOD{distances=" + Arrays.toString(distances) + ", steps=" + Arrays.toString(steps) +
+                ", viewAngle=" + Math.toDegrees(halfViewAngle * 2) + '}';
+    }
+
+    /**
+     * This class is not thread-safe.
+     */
+    public static final class Builder {
+        private double[] distances = new double[0];
+        private int[] steps = new int[0];
+        private double viewAngle = Double.NaN;
+
+        /**
+         * Adds a new detail level. Levels must be added from the closest to the furthest.
+         *
+         * @param maxDistance the maximum distance of the viewers in this level.
+         * @param step        the {@link ParticleShape#decimate(int) decimation} step for this level.
+         */
+        @NotNull
+        public Builder level(double maxDistance, int step) {
+            if (step < 1) throw new IllegalArgumentException("Decimation step must be positive: " + step);
+            if (distances.length != 0 && maxDistance <= distances[distances.length - 1])
+                throw new IllegalArgumentException("Levels must be added in increasing distance order: " + maxDistance);
+
+            distances = Arrays.copyOf(distances, distances.length + 1);
+            steps = Arrays.copyOf(steps, steps.length + 1);
+            distances[distances.length - 1] = maxDistance;
+            steps[steps.length - 1] = step;
+            return this;
+        }
+
+        /**
+         * Viewers that are not looking towards the shape will not receive any particles.
+         * Since particles usually only last a few ticks, this doesn't have to match the viewer's FOV exactly,
+         * but it should be wider than the FOV to account for players turning around.
+         *
+         * @param degrees the full angle of the view cone, up to 360 which disables view culling.
+         */
+        @NotNull
+        public Builder viewAngle(double degrees) {
+            if (degrees <= 0) throw new IllegalArgumentException("View angle must be positive: " + degrees);
+            this.viewAngle = degrees >= 360 ? Double.NaN : degrees;
+            return this;
+        }
+
+        @NotNull
+        public ParticleLOD build() {
+            if (distances.length == 0) throw new IllegalStateException("No detail levels were added");
+            return new ParticleLOD(distances.clone(), steps.clone(), Math.toRadians(viewAngle) / 2);
+        }
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.particles;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An immutable precomputed list of particle points that can be spawned multiple times
+ * using {@link ParticleDisplay#spawn(ParticleShape)} without recalculating the shape.
+ * The points are stored in a packed {@code double[]} array of xyz triples relative to the
+ * origin of the shape, and optionally the particle direction and the color of each point.
+ * <p>
+ * Most {@link Particles} methods can be recorded into a shape without any changes:
+ * <pre>{@code
+ * ParticleShape sphere = ParticleShape.cached(Arrays.asList("sphere", 3, 20),
+ *         () -> ParticleShape.record(display -> Particles.sphere(3, 20, display)));
+ *
+ * // Every 2 ticks...
+ * for (Player player : players) {
+ *     ParticleDisplay.of(XParticle.FLAME).withLocation(player.getLocation()).rotate(0, angle, 0).spawn(sphere);
+ * }
+ * }</pre>
+ * Since shapes are immutable, they can be safely shared and spawned from multiple threads.
+ *
+ * @see Builder
+ * @since 14.2.0
+ */
+public final class ParticleShape {
+    /**
+     * Shapes cached by {@link #cached(Object, Supplier)}. Since shapes can be large and the keys are
+     * arbitrary parameters, the cache is bounded and its shapes can be collected when memory is low.
+     */
+    private static final Cache<Object, ParticleShape> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(256)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .softValues()
+            .build();
+
+    private final double[] points;
+    /**
+     * The direction of each point, or {@link Double#NaN} if the point doesn't have a direction.
+     */
+    private final double[] directions;
+    /**
+     * The ARGB color of each point, or 0 if the point doesn't have a color.
+     */
+    private final int[] colors;
+    /**
+     * The bounding sphere of all the points.
+     */
+    private final double centerX, centerY, centerZ, radius;
+    /**
+     * The {@link #decimate(int) decimated} versions of this shape by their step.
+     */
+    private final Map<Integer, ParticleShape> decimated = new ConcurrentHashMap<>(4);
+
+    private ParticleShape(double[] points, double[] directions, int[] colors) {
+        this.points = points;
+        this.directions = directions;
+        this.colors = colors;
+
+        // The center of the bounding box is good enough for culling.
+        double minX = 0, minY = 0, minZ = 0, maxX = 0, maxY = 0, maxZ = 0;
+        if (points.length != 0) {
+            minX = maxX = points[0];
+            minY = maxY = points[1];
+            minZ = maxZ = points[2];
+            for (int i = 3; i < points.length; i += 3) {
+                minX = Math.min(minX, points[i]);
+                minY = Math.min(minY, points[i + 1]);
+                minZ = Math.min(minZ, points[i + 2]);
+                maxX = Math.max(maxX, points[i]);
+                maxY = Math.max(maxY, points[i + 1]);
+                maxZ = Math.max(maxZ, points[i + 2]);
+            }
+        }
+        this.centerX = (minX + maxX) / 2;
+        this.centerY = (minY + maxY) / 2;
+        this.centerZ = (minZ + maxZ) / 2;
+
+        double radiusSquared = 0;
+        for (int i = 0; i < points.length; i += 3) {
+            double dx = points[i] - centerX;
+            double dy = points[i + 1] - centerY;
+            double dz = points[i + 2] - centerZ;
+            radiusSquared = Math.max(radiusSquared, dx * dx + dy * dy + dz * dz);
+        }
+        this.radius = Math.sqrt(radiusSquared);
+    }
+
+    /**
+     * Records all the particles spawned by the given shape function (e.g. {@link Particles#sphere(double, double, ParticleDisplay)})
+     * into a shape instead of spawning them.
+     *
+     * @param shape the function that spawns the particles using the given display.
+     * @see #record(ParticleDisplay, Consumer)
+     */
+    @NotNull
+    public static ParticleShape record(@NotNull Consumer<ParticleDisplay> shape) {
+        return record(ParticleDisplay.of(XParticle.FLAME), shape);
+    }
+
+    /**
+     * Records all the particles spawned by the given shape function into a shape instead of spawning them.
+     * The shape function receives a copy of the given display, this is useful for shapes that behave differently
+     * based on the display's properties such as {@link ParticleDisplay#isDirectional()}.
+     * <p>
+     * The copied display is located at the origin ({@code 0, 0, 0}) with no rotations or calculation callbacks,
+     * those are applied when the shape is spawned instead.
+     * Particle directions are recorded for every point if the display is directional, and
+     * colors are recorded if the shape function changes the color of the display.
+     *
+     * @param template the display properties that the shape function can use.
+     * @param shape    the function that spawns the particles using the given display.
+     */
+    @NotNull
+    public static ParticleShape record(@NotNull ParticleDisplay template, @NotNull Consumer<ParticleDisplay> shape) {
+        Objects.requireNonNull(template, "Cannot record shape with null template");
+        Objects.requireNonNull(shape, "Cannot record null shape");
+
+        ParticleDisplay display = template.copy()
+                .withLocation(new Location(null, 0, 0, 0))
+                .preCalculation(null)
+                .postCalculation(null)
+                .withExtra(template.getExtra());
+        display.rotations.clear();
+        display.particleDirection(template.getParticleDirection());
+        display.recorder = new Recorder(display.getData());
+
+        shape.accept(display);
+        return display.recorder.builder.build();
+    }
+
+    /**
+     * Gets a shape from the cache or computes and caches it if it's not present.
+     * The key should contain all the parameters that affect the shape, e.g. {@code Arrays.asList("sphere", radius, rate)}
+     * <p>
+     * Only a limited number of shapes are kept, and the ones that weren't used for a while or are
+     * needed to free memory are removed, so the shape might be computed again later.
+     * Shapes that should stay cached or are only used by one caller should be kept by the caller instead.
+     *
+     * @param key   the parameters of the shape with proper {@link Object#equals(Object)} and {@link Object#hashCode()} implementations.
+     * @param shape computes the shape if it's not cached.
+     * @see #clearCache()
+     */
+    @NotNull
+    public static ParticleShape cached(@NotNull Object key, @NotNull Supplier<ParticleShape> shape) {
+        Objects.requireNonNull(key, "Cannot cache shape with null key");
+        Objects.requireNonNull(shape, "Cannot cache null shape");
+        return CACHE.asMap().computeIfAbsent(key, k -> Objects.requireNonNull(shape.get(), () -> "Shape supplier returned null for " + key));
+    }
+
+    /**
+     * Removes all the shapes cached by {@link #cached(Object, Supplier)}
+     */
+    public static void clearCache() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * @see Particles#circle(double, double, ParticleDisplay)
+     */
+    @NotNull
+    public static ParticleShape circle(double radius, double rate) {
+        return cached(Arrays.asList("circle", radius, rate),
+                () -> record(display -> Particles.circle(radius, rate, display)));
+    }
+
+    /**
+     * @see Particles#sphere(double, double, ParticleDisplay)
+     */
+    @NotNull
+    public static ParticleShape sphere(double radius, double rate) {
+        return cached(Arrays.asList("sphere", radius, rate),
+                () -> record(display -> Particles.sphere(radius, rate, display)));
+    }
+
+    /**
+     * @see Particles#ring(double, double, double, ParticleDisplay)
+     */
+    @NotNull
+    public static ParticleShape ring(double rate, double radius, double tubeRadius) {
+        return cached(Arrays.asList("ring", rate, radius, tubeRadius),
+                () -> record(display -> Particles.ring(rate, radius, tubeRadius, display)));
+    }
+
+    /**
+     * @see Particles#cylinder(double, double, double, ParticleDisplay)
+     */
+    @NotNull
+    public static ParticleShape cylinder(double height, double radius, double rate) {
+        return cached(Arrays.asList("cylinder", height, radius, rate),
+                () -> record(display -> Particles.cylinder(height, radius, rate, display)));
+    }
+
+    /**
+     * @return the number of points in this shape.
+     */
+    public int size() {
+        return points.length / 3;
+    }
+
+    public double getX(int index) {
+        return points[index * 3];
+    }
+
+    public double getY(int index) {
+        return points[index * 3 + 1];
+    }
+
+    public double getZ(int index) {
+        return points[index * 3 + 2];
+    }
+
+    public boolean hasDirections() {
+        return directions != null;
+    }
+
+    /**
+     * @return true if the given point has a particle direction.
+     * @see #getDirectionX(int)
+     */
+    public boolean hasDirection(int index) {
+        return directions != null && !Double.isNaN(directions[index * 3]);
+    }
+
+    public double getDirectionX(int index) {
+        return directions[index * 3];
+    }
+
+    public double getDirectionY(int index) {
+        return directions[index * 3 + 1];
+    }
+
+    public double getDirectionZ(int index) {
+        return directions[index * 3 + 2];
+    }
+
+    public boolean hasColors() {
+        return colors != null;
+    }
+
+    /**
+     * @return the ARGB color of the point or 0 if the point has no color.
+     * @see Color#Color(int, boolean)
+     */
+    public int getColor(int index) {
+        return colors == null ? 0 : colors[index];
+    }
+
+    /**
+     * The center of the bounding sphere of this shape, relative to the origin of the shape.
+     *
+     * @see #getRadius()
+     */
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterY() {
+        return centerY;
+    }
+
+    public double getCenterZ() {
+        return centerZ;
+    }
+
+    /**
+     * @return the radius of the bounding sphere of this shape.
+     * @see #getCenterX()
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * A lower detail version of this shape that only keeps every {@code step}th point.
+     * The decimated shapes are cached, so this can be called every time the shape is spawned.
+     *
+     * @param step the number of points to skip for each point that is kept. 1 returns this shape.
+     * @return the decimated shape.
+     * @see ParticleLOD
+     */
+    @NotNull
+    public ParticleShape decimate(int step) {
+        if (step < 1) throw new IllegalArgumentException("Decimation step must be positive: " + step);
+        if (step == 1 || size() <= 1) return this;
+        return decimated.computeIfAbsent(step, k -> {
+            int size = (size() + step - 1) / step;
+            double[] points = new double[size * 3];
+            double[] directions = this.directions == null ? null : new double[size * 3];
+            int[] colors = this.colors == null ? null : new int[size];
+
+            for (int i = 0, from = 0; i < size; i++, from += step) {
+                System.arraycopy(this.points, from * 3, points, i * 3, 3);
+                if (directions != null) System.arraycopy(this.directions, from * 3, directions, i * 3, 3);
+                if (colors != null) colors[i] = this.colors[from];
+            }
+            return new ParticleShape(points, directions, colors);
+        });
+    }
+
+    /**
+     * @return a copy of the packed xyz triples of this shape.
+     */
+    @NotNull
+    public double[] toArray() {
+        return points.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "ParticleShape{points=" + size() +
+                (directions != null ? ", directional" : "") +
+                (colors != null ? ", colored" : "") + '}';
+    }
+
+    /**
+     * Records the points spawned by a {@link ParticleDisplay}.
+     *
+     * @see ParticleDisplay#spawn(Location)
+     */
+    static final class Recorder {
+        private final Builder builder = new Builder();
+        private final ParticleDisplay.ParticleData initialData;
+
+        private Recorder(ParticleDisplay.ParticleData initialData) {
+            this.initialData = initialData;
+        }
+
+        void record(ParticleDisplay display, Location location) {
+            builder.add(location.getX(), location.getY(), location.getZ());
+
+            org.bukkit.util.Vector direction = display.getParticleDirection();
+            if (direction != null) builder.direction(direction.getX(), direction.getY(), direction.getZ());
+
+            ParticleDisplay.ParticleData data = display.getData();
+            if (data != initialData && data instanceof ParticleDisplay.RGBParticleColor) {
+                builder.color(((ParticleDisplay.RGBParticleColor) data).getColor().getRGB());
+            }
+        }
+    }
+
+    /**
+     * Builds a shape point by point.
+     * <pre>{@code
+     * ParticleShape.Builder builder = new ParticleShape.Builder();
+     * for (double theta = 0; theta < Particles.PII; theta += Math.PI / 30) {
+     *     builder.add(Math.cos(theta), 0, Math.sin(theta));
+     * }
+     * ParticleShape circle = builder.build();
+     * }</pre>
+     * This class is not thread-safe.
+     */
+    public static final class Builder {
+        private double[] points = new double[16 * 3];
+        private double[] directions;
+        private int[] colors;
+        private int size;
+
+        /**
+         * Adds a new point to the shape.
+         */
+        @NotNull
+        public Builder add(double x, double y, double z) {
+            if (size * 3 == points.length) grow();
+
+            int index = size * 3;
+            points[index] = x;
+            points[index + 1] = y;
+            points[index + 2] = z;
+            size++;
+            return this;
+        }
+
+        /**
+         * Grows the capacity by whole points so the arrays always hold complete xyz triples.
+         */
+        private void grow() {
+            int capacity = points.length / 3;
+            int newCapacity = capacity + (capacity >> 1);
+            int newLength = newCapacity * 3;
+
+            points = Arrays.copyOf(points, newLength);
+            if (directions != null) {
+                int from = directions.length;
+                directions = Arrays.copyOf(directions, newLength);
+                Arrays.fill(directions, from, newLength, Double.NaN);
+            }
+            if (colors != null) colors = Arrays.copyOf(colors, newCapacity);
+        }
+
+        private void checkPoint() {
+            if (size == 0) throw new IllegalStateException("No points were added to the shape yet");
+        }
+
+        /**
+         * Sets the particle direction of the last added point.
+         */
+        @NotNull
+        public Builder direction(double x, double y, double z) {
+            checkPoint();
+            if (directions == null) {
+                directions = new double[points.length];
+                Arrays.fill(directions, Double.NaN);
+            }
+
+            int index = (size - 1) * 3;
+            directions[index] = x;
+            directions[index + 1] = y;
+            directions[index + 2] = z;
+            return this;
+        }
+
+        /**
+         * Sets the ARGB color of the last added point.
+         *
+         * @see Color#getRGB()
+         */
+        @NotNull
+        public Builder color(int argb) {
+            checkPoint();
+            if (colors == null) colors = new int[points.length / 3];
+            colors[size - 1] = argb;
+            return this;
+        }
+
+        /**
+         * @return the number of points added so far.
+         */
+        public int size() {
+            return size;
+        }
+
+        @NotNull
+        public ParticleShape build() {
+            return new ParticleShape(
+                    Arrays.copyOf(points, size * 3),
+                    directions == null ? null : Arrays.copyOf(directions, size * 3),
+                    colors == null ? null : Arrays.copyOf(colors, size)
+            );
+        }
+    }
+}
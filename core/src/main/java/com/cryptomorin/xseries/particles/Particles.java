@@ -47,6 +47,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * <b>XParticle</b> - The most unique particle animation, text and image renderer.<br>
@@ -101,6 +102,7 @@ import java.util.function.Supplier;
  * <p>
  * This class also uses {@link BooleanSupplier} and {@link Runnable} for repeating/delayed tasks
  * in order to be compatible with other server softwares such as <a href="https://papermc.io/software/folia">Folia</a>.
+ * Animations can be computed on other threads and displayed from the main thread using {@link AsyncParticleAnimation}.
  *
  * @author Crypto Morin
  * @version 7.2.0
@@ -771,12 +773,7 @@ public final class Particles {
      */
     public static BukkitTask blackhole(Plugin plugin, int points, double radius, double rate, int mode, int time, ParticleDisplay display) {
         BooleanSupplier blackhole = blackhole(points, radius, rate, mode, time, display);
-        return new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!blackhole.getAsBoolean()) cancel();
-            }
-        }.runTaskTimerAsynchronously(plugin, 0, 1);
+        return new AsyncParticleAnimation(blackhole).runTaskTimer(plugin);
     }
 
     /**
@@ -944,7 +941,11 @@ public final class Particles {
      * @since 2.0.0
      */
     public static BukkitTask vortex(Plugin plugin, int points, double rate, ParticleDisplay display) {
-        return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, vortex(points, rate, display), 0, 1);
+        Runnable vortex = vortex(points, rate, display);
+        return new AsyncParticleAnimation(() -> {
+            vortex.run();
+            return true;
+        }).runTaskTimer(plugin);
     }
 
     /**
@@ -1540,12 +1541,7 @@ public final class Particles {
                                    double extension, double height, double speed, double rotationRate,
                                    boolean fadeUp, boolean fadeDown, ParticleDisplay display) {
         BooleanSupplier helix = helix(strings, radius, rate, extension, height, speed, rotationRate, fadeUp, fadeDown, display);
-        return new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!helix.getAsBoolean()) cancel();
-            }
-        }.runTaskTimerAsynchronously(plugin, 0, 1);
+        return new AsyncParticleAnimation(helix).runTaskTimer(plugin);
     }
 
     /**
@@ -1746,14 +1742,7 @@ public final class Particles {
     public static BukkitTask dnaReplication(Plugin plugin, double radius, double rate, int speed, double extension,
                                             int height, int hydrogenBondDist, ParticleDisplay display) {
         BooleanSupplier dnaReplication = dnaReplication(radius, rate, speed, extension, height, hydrogenBondDist, display);
-        return new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!dnaReplication.getAsBoolean()) {
-                    cancel();
-                }
-            }
-        }.runTaskTimerAsynchronously(plugin, 0, 1);
+        return new AsyncParticleAnimation(dnaReplication).runTaskTimer(plugin);
     }
 
     /**
@@ -2243,12 +2232,7 @@ public final class Particles {
      */
     public static BukkitTask tesseract(Plugin plugin, double size, double rate, double speed, long ticks, ParticleDisplay display) {
         BooleanSupplier tesseract = tesseract(size, rate, speed, ticks, display);
-        return new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!tesseract.getAsBoolean()) cancel();
-            }
-        }.runTaskTimerAsynchronously(plugin, 0, 1);
+        return new AsyncParticleAnimation(tesseract).runTaskTimer(plugin);
     }
 
     /**
@@ -2298,6 +2282,7 @@ public final class Particles {
      * @param x0    the amount of x to move the shape. Recommended is 3
      * @param y0    the amount of y to move the shape. Recommended is 0
      * @param color the color set of the mandelbrot. This can change the shape. Recommended is 1000
+     * @see #mandelbrot(double, double, double, double, double, int)
      * @since 4.0.0
      */
     public static void mandelbrot(double size, double zoom, double rate, double x0, double y0, int color, ParticleDisplay display) {
@@ -2323,6 +2308,68 @@ public final class Particles {
         }
     }
 
+    /**
+     * Computes the points of a mandelbrot set in parallel. The result is cached, so rendering
+     * the same set again is free. Since this can take a while for large sets, it should be called
+     * asynchronously and the shape should be spawned later using {@link ParticleDisplay#spawn(ParticleShape)}.
+     *
+     * @see #mandelbrot(double, double, double, double, double, int, boolean)
+     * @see #mandelbrot(double, double, double, double, double, int, ParticleDisplay)
+     * @since 14.2.0
+     */
+    public static ParticleShape mandelbrot(double size, double zoom, double rate, double x0, double y0, int color) {
+        return mandelbrot(size, zoom, rate, x0, y0, color, true);
+    }
+
+    /**
+     * Computes the points of a mandelbrot set in parallel.
+     *
+     * @param cache whether to {@link ParticleShape#cached(Object, java.util.function.Supplier) cache} the shape.
+     *              Sets that are only rendered once, such as ones with animated parameters, shouldn't be cached.
+     * @see #mandelbrot(double, double, double, double, double, int)
+     * @since 14.2.0
+     */
+    public static ParticleShape mandelbrot(double size, double zoom, double rate, double x0, double y0, int color, boolean cache) {
+        if (!cache) return computeMandelbrot(size, zoom, rate, x0, y0, color);
+        return ParticleShape.cached(Arrays.asList("mandelbrot", size, zoom, rate, x0, y0, color),
+                () -> computeMandelbrot(size, zoom, rate, x0, y0, color));
+    }
+
+    private static ParticleShape computeMandelbrot(double size, double zoom, double rate, double x0, double y0, int color) {
+        double[] axis = fractalAxis(size, rate);
+        int length = axis.length;
+
+        // The remaining iterations of each point, rows are the y-axis.
+        int[] iterations = new int[length * length];
+        IntStream.range(0, length).parallel().forEach(row -> {
+            double cY = (axis[row] - y0) / zoom;
+            for (int column = 0; column < length; column++) {
+                double zy = 0;
+                double zx = 0;
+                double cX = (axis[column] - x0) / zoom;
+
+                int iteration = color; // Max iterations
+                while (zx * zx + zy * zy <= 4 && iteration > 0) {
+                    double xtemp = zx * zx - zy * zy + cX;
+                    zy = 2 * zx * zy + cY; // Changing 2 to 1 or -1 can give interesting results.
+                    zx = xtemp;
+                    iteration--;
+                }
+                iterations[row * length + column] = iteration;
+            }
+        });
+
+        ParticleShape.Builder shape = new ParticleShape.Builder();
+        for (int row = 0; row < length; row++) {
+            for (int column = 0; column < length; column++) {
+                if (iterations[row * length + column] != 0) continue;
+                // Color color = new Color(iteration | (iteration << 8));
+                shape.add(axis[column], axis[row], 0);
+            }
+        }
+        return shape.build();
+    }
+
     /**
      * Spawns a julia set.
      * https://en.wikipedia.org/wiki/Julia_set
@@ -2334,6 +2381,7 @@ public final class Particles {
      * @param moveY       the amount to move in the y axis.
      * @param display     The particle should be {@link XParticle#DUST}
      * @see #mandelbrot(double, double, double, double, double, int, ParticleDisplay)
+     * @see #julia(double, double, int, double, double)
      * @since 4.0.0
      */
     public static void julia(double size, double zoom, int colorScheme, double moveX, double moveY, ParticleDisplay display) {
@@ -2342,7 +2390,7 @@ public final class Particles {
 
         for (double x = -size; x < size; x += 0.1) {
             for (double y = -size; y < size; y += 0.1) {
-                double zx = 1.5 * (size - size / 2) / (0.5 * zoom * size) + moveX;
+                double zx = 1.5 * (x - size / 2) / (0.5 * zoom * size) + moveX;
                 double zy = (y - size / 2) / (0.5 * zoom * size) + moveY;
 
                 int i = colorScheme;
@@ -2360,6 +2408,83 @@ public final class Particles {
         }
     }
 
+    /**
+     * Computes the colored points of a julia set in parallel. The result is cached, so rendering
+     * the same set again is free. Since this can take a while for large sets, it should be called
+     * asynchronously and the shape should be spawned later using {@link ParticleDisplay#spawn(ParticleShape)}.
+     *
+     * @see #julia(double, double, int, double, double, boolean)
+     * @see #julia(double, double, int, double, double, ParticleDisplay)
+     * @since 14.2.0
+     */
+    public static ParticleShape julia(double size, double zoom, int colorScheme, double moveX, double moveY) {
+        return julia(size, zoom, colorScheme, moveX, moveY, true);
+    }
+
+    /**
+     * Computes the colored points of a julia set in parallel.
+     *
+     * @param cache whether to {@link ParticleShape#cached(Object, java.util.function.Supplier) cache} the shape.
+     *              Sets that are only rendered once, such as ones with animated parameters, shouldn't be cached.
+     * @see #julia(double, double, int, double, double)
+     * @since 14.2.0
+     */
+    public static ParticleShape julia(double size, double zoom, int colorScheme, double moveX, double moveY, boolean cache) {
+        if (!cache) return computeJulia(size, zoom, colorScheme, moveX, moveY);
+        return ParticleShape.cached(Arrays.asList("julia", size, zoom, colorScheme, moveX, moveY),
+                () -> computeJulia(size, zoom, colorScheme, moveX, moveY));
+    }
+
+    private static ParticleShape computeJulia(double size, double zoom, int colorScheme, double moveX, double moveY) {
+        double cx = -0.7;
+        double cy = 0.27015;
+        double[] axis = fractalAxis(size, 0.1);
+        int length = axis.length;
+
+        // The remaining iterations of each point, rows are the x-axis.
+        int[] iterations = new int[length * length];
+        IntStream.range(0, length).parallel().forEach(row -> {
+            double startX = 1.5 * (axis[row] - size / 2) / (0.5 * zoom * size) + moveX;
+            for (int column = 0; column < length; column++) {
+                double zx = startX;
+                double zy = (axis[column] - size / 2) / (0.5 * zoom * size) + moveY;
+
+                int i = colorScheme;
+                while (zx * zx + zy * zy < 4 && i > 0) {
+                    double xtemp = zx * zx - zy * zy + cx;// Math.pow((zx * zx + zy * zy), (n / 2)) * (Math.cos(n * Math.atan2(zy, zx))) + cx;
+                    zy = 2 * zx * zy + cy; // Math.pow((zx * zx + zy * zy), (n / 2)) * Math.sin(n * Math.atan2(zy, zx)) + cy;
+                    zx = xtemp;
+                    i--;
+                }
+                iterations[row * length + column] = i;
+            }
+        });
+
+        ParticleShape.Builder shape = new ParticleShape.Builder();
+        for (int row = 0; row < length; row++) {
+            for (int column = 0; column < length; column++) {
+                int i = iterations[row * length + column];
+                int color = 0xFF000000 | ((i << 21) + (i << 10) + i * 8);
+                shape.add(axis[row], axis[column], 0).color(color);
+            }
+        }
+        return shape.build();
+    }
+
+    /**
+     * The coordinates of the fractal points in each axis, accumulated the same way as {@code for (v = -size; v < size; v += rate)}
+     */
+    private static double[] fractalAxis(double size, double rate) {
+        if (rate <= 0) throw new IllegalArgumentException("Rate must be positive: " + rate);
+        int count = 0;
+        for (double v = -size; v < size; v += rate) count++;
+
+        double[] axis = new double[count];
+        double v = -size;
+        for (int i = 0; i < count; i++, v += rate) axis[i] = v;
+        return axis;
+    }
+
     /**
      * Spawn 3D spiked circles.
      * Note that the animation is intended to be used with prototype mode enabled.
@@ -2711,7 +2836,7 @@ public final class Particles {
      * @return the resized image.
      * @since 1.0.0
      */
-    private static CompletableFuture<BufferedImage> getScaledImage(Path path, int width, int height) {
+    static CompletableFuture<BufferedImage> getScaledImage(Path path, int width, int height) {
         return CompletableFuture.supplyAsync(() -> {
             BufferedImage image = getImage(path);
             if (image == null) return null;
@@ -2746,7 +2871,9 @@ public final class Particles {
      * @param compact       the pixel compact of the image.
      * @return the rendered particle locations.
      * @since 1.0.0
+     * @deprecated use {@link RenderedImage#render(Path, int, int, double, Path)}
      */
+    @Deprecated
     public static CompletableFuture<Map<double[], Color>> renderImage(Path path, int resizedWidth, int resizedHeight, double compact) {
         return getScaledImage(path, resizedWidth, resizedHeight).thenCompose((image) -> renderImage(image, resizedWidth, resizedHeight, compact));
     }
@@ -2761,7 +2888,9 @@ public final class Particles {
      * @param compact       particles compact value. Should be lower than 0.5 and higher than 0.1 The recommended value is 0.2
      * @return a rendered map of an image.
      * @since 1.0.0
+     * @deprecated use {@link RenderedImage#render(BufferedImage, double)}
      */
+    @Deprecated
     @SuppressWarnings("unused")
     public static CompletableFuture<Map<double[], Color>> renderImage(BufferedImage image, int resizedWidth, int resizedHeight, double compact) {
         return CompletableFuture.supplyAsync(() -> {
@@ -2809,7 +2938,9 @@ public final class Particles {
      * @param size     the size of the particle. Recommended amount is 0.8
      * @return the async bukkit task displaying the image.
      * @since 1.0.0
+     * @deprecated use {@link #displayRenderedImage(RenderedImage, Callable, int, int, int, float)}
      */
+    @Deprecated
     public static BooleanSupplier displayRenderedImage(Map<double[], Color> render, Callable<Location> location,
                                                        int repeat, int quality, int speed, float size) {
         return new BooleanSupplier() {
@@ -2848,7 +2979,9 @@ public final class Particles {
      * @param size     the size of the particle. Recommended amount is 0.8
      * @return the async bukkit task displaying the image.
      * @since 1.0.0
+     * @deprecated use {@link #displayRenderedImage(Plugin, RenderedImage, Callable, int, long, int, int, float)}
      */
+    @Deprecated
     public static BukkitTask displayRenderedImage(Plugin plugin, Map<double[], Color> render, Callable<Location> location,
                                                   int repeat, long period, int quality, int speed, float size) {
         BooleanSupplier displayRenderedImage = displayRenderedImage(render, location, repeat, quality, speed, size);
@@ -2869,18 +3002,13 @@ public final class Particles {
      * @param speed    the speed is exactly the same value as the speed of particles. Recommended amount is 0
      * @param size     the size of the particle. Recommended amount is 0.8
      * @since 1.0.0
+     * @deprecated use {@link #displayRenderedImage(RenderedImage, Location, int, int, float)}
      */
+    @Deprecated
     @SuppressWarnings("ConstantConditions")
     public static void displayRenderedImage(Map<double[], Color> render, Location location, int quality, int speed, float size) {
         World world = location.getWorld();
-
-        BlockFace facing;
-        double rotation = location.getYaw(); // The rotation axis.
-        if (rotation >= 135 || rotation < -135) facing = BlockFace.NORTH;
-        else if (rotation >= -135 && rotation < -45) facing = BlockFace.EAST;
-        else if (rotation >= -45 && rotation < 45) facing = BlockFace.SOUTH;
-        else if (rotation >= 45 && rotation < 135) facing = BlockFace.WEST;
-        else throw new IllegalArgumentException("Unknown rotation yaw: " + rotation);
+        BlockFace facing = getImageFacing(location.getYaw());
 
         for (Map.Entry<double[], Color> pixel : render.entrySet()) {
             Particle.DustOptions data = new Particle.DustOptions(pixel.getValue(), size);
@@ -2918,6 +3046,95 @@ public final class Particles {
         }
     }
 
+    /**
+     * @param rotation the yaw of the image's location.
+     * @return the direction that a rendered image is facing.
+     */
+    static BlockFace getImageFacing(double rotation) {
+        if (rotation >= 135 || rotation < -135) return BlockFace.NORTH;
+        else if (rotation >= -135 && rotation < -45) return BlockFace.EAST;
+        else if (rotation >= -45 && rotation < 45) return BlockFace.SOUTH;
+        else if (rotation >= 45 && rotation < 135) return BlockFace.WEST;
+        else throw new IllegalArgumentException("Unknown rotation yaw: " + rotation);
+    }
+
+    /**
+     * Display a rendered image repeatedly.
+     *
+     * @param render   the rendered image.
+     * @param location the dynamic location to display the image at.
+     * @param repeat   amount of times to repeat displaying the image.
+     * @param quality  the quality of the image is exactly the number of particles display for each pixel. Recommended value is 1
+     * @param speed    the speed is exactly the same value as the speed of particles. Recommended amount is 0
+     * @param size     the size of the particle. Recommended amount is 0.8
+     * @return the animation handler.
+     * @since 14.2.0
+     */
+    public static BooleanSupplier displayRenderedImage(RenderedImage render, Callable<Location> location,
+                                                       int repeat, int quality, int speed, float size) {
+        return new BooleanSupplier() {
+            int times = repeat;
+            boolean done = false;
+
+            @Override
+            public boolean getAsBoolean() {
+                if (done) return false;
+
+                try {
+                    render.display(location.call(), quality, speed, size);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+
+                if (times-- <= 0) {
+                    done = true;
+                    return false;
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Display a rendered image repeatedly on the main thread.
+     *
+     * @param plugin   the scheduler handler.
+     * @param render   the rendered image.
+     * @param location the dynamic location to display the image at.
+     * @param repeat   amount of times to repeat displaying the image.
+     * @param period   the perioud between each repeats.
+     * @param quality  the quality of the image is exactly the number of particles display for each pixel. Recommended value is 1
+     * @param speed    the speed is exactly the same value as the speed of particles. Recommended amount is 0
+     * @param size     the size of the particle. Recommended amount is 0.8
+     * @return the bukkit task displaying the image.
+     * @since 14.2.0
+     */
+    public static BukkitTask displayRenderedImage(Plugin plugin, RenderedImage render, Callable<Location> location,
+                                                  int repeat, long period, int quality, int speed, float size) {
+        BooleanSupplier displayRenderedImage = displayRenderedImage(render, location, repeat, quality, speed, size);
+        return new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (!displayRenderedImage.getAsBoolean()) cancel();
+            }
+        }.runTaskTimer(plugin, 0, period);
+    }
+
+    /**
+     * Display a rendered image.
+     *
+     * @param render   the rendered image.
+     * @param location the location to display the image at. The {@link Location#getYaw()} determines the image's rotation.
+     * @param quality  the quality of the image is exactly the number of particles display for each pixel. Recommended value is 1
+     * @param speed    the speed is exactly the same value as the speed of particles. Recommended amount is 0
+     * @param size     the size of the particle. Recommended amount is 0.8
+     * @see RenderedImage#display(Location, int, int, float)
+     * @since 14.2.0
+     */
+    public static void displayRenderedImage(RenderedImage render, Location location, int quality, int speed, float size) {
+        render.display(location, quality, speed, size);
+    }
+
     /**
      * A simple method used to save images. Useful to cache text generated images.
      *
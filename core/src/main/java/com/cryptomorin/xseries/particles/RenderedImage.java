@@ -0,0 +1,373 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.particles;
+
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An immutable image that is rendered into particle points.
+ * The pixels are stored in parallel primitive arrays, and the colors are deduplicated
+ * into a palette, so displaying the image doesn't create any objects per pixel.
+ * <pre>{@code
+ * RenderedImage.render(path, 128, 128, 0.2, cachePath).thenAccept(image -> {
+ *     // On the main thread...
+ *     Particles.displayRenderedImage(image, location, 1, 0, 0.8f);
+ * });
+ * }</pre>
+ *
+ * @see Particles#displayRenderedImage(RenderedImage, Location, int, int, float)
+ * @since 14.2.0
+ */
+public final class RenderedImage {
+    /**
+     * "XSRI" used to identify cached rendered images.
+     */
+    private static final int MAGIC = 0x58535249, VERSION = 2;
+
+    /**
+     * The size of the image that was rendered and the distance between each particle,
+     * used to check if a cached image was rendered with the same options.
+     */
+    private final int width, height;
+    private final double compact;
+    private final float[] x, y;
+    private final int[] rgb;
+    /**
+     * The unique colors of the image, and the index of each pixel's color in this palette.
+     */
+    private final int[] palette, paletteIndex;
+    private volatile DustPalette dustPalette;
+
+    private static final class DustPalette {
+        private final float size;
+        private final Particle.DustOptions[] options;
+
+        private DustPalette(float size, Particle.DustOptions[] options) {
+            this.size = size;
+            this.options = options;
+        }
+    }
+
+    private RenderedImage(int width, int height, double compact, float[] x, float[] y, int[] rgb) {
+        if (x.length != y.length || x.length != rgb.length)
+            throw new IllegalArgumentException("Mismatched pixel arrays: " + x.length + ", " + y.length + ", " + rgb.length);
+        this.width = width;
+        this.height = height;
+        this.compact = compact;
+        this.x = x;
+        this.y = y;
+        this.rgb = rgb;
+
+        int[] sorted = rgb.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[unique++] = sorted[i];
+        }
+        this.palette = Arrays.copyOf(sorted, unique);
+        this.paletteIndex = new int[rgb.length];
+        for (int i = 0; i < rgb.length; i++) {
+            paletteIndex[i] = Arrays.binarySearch(palette, rgb[i]);
+        }
+    }
+
+    /**
+     * Renders every non-transparent pixel of the image. The rows of the image are rendered in parallel.
+     *
+     * @param image   the image to render.
+     * @param compact the distance between each particle. Should be lower than 0.5 and higher than 0.1 The recommended value is 0.2
+     * @return the rendered image.
+     */
+    @NotNull
+    public static RenderedImage render(@NotNull BufferedImage image, double compact) {
+        Objects.requireNonNull(image, "Cannot render null image");
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double centerX = width / 2D;
+        double centerY = height / 2D;
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // Count the visible pixels of each row first, so each row knows where to write its pixels.
+        int[] offsets = new int[height + 1];
+        IntStream.range(0, height).parallel().forEach(row -> {
+            int count = 0;
+            for (int i = row * width, end = i + width; i < end; i++) {
+                if (isVisible(pixels[i])) count++;
+            }
+            offsets[row + 1] = count;
+        });
+        for (int row = 0; row < height; row++) offsets[row + 1] += offsets[row];
+
+        int size = offsets[height];
+        float[] x = new float[size];
+        float[] y = new float[size];
+        int[] rgb = new int[size];
+        IntStream.range(0, height).parallel().forEach(row -> {
+            int index = offsets[row];
+            float pixelY = (float) ((row - centerY) * compact);
+            for (int column = 0; column < width; column++) {
+                int pixel = pixels[row * width + column];
+                if (!isVisible(pixel)) continue;
+
+                x[index] = (float) ((column - centerX) * compact);
+                y[index] = pixelY;
+                rgb[index] = pixel & 0xFFFFFF;
+                index++;
+            }
+        });
+
+        return new RenderedImage(width, height, compact, x, y, rgb);
+    }
+
+    private static boolean isVisible(int pixel) {
+        // Transparency
+        return (pixel >> 24) != 0x0;
+    }
+
+    /**
+     * Resizes and renders the image asynchronously.
+     *
+     * @param path          the path of the image.
+     * @param resizedWidth  the resizing width.
+     * @param resizedHeight the resizing height.
+     * @param compact       the distance between each particle.
+     * @param cache         the file that the rendered image is cached in, or null to always render the image.
+     *                      The cache is only used if it's newer than the image and was rendered with the same size and compact.
+     *                      Failing to write the cache doesn't fail the rendering.
+     * @return the rendered image, or null if the image couldn't be read.
+     */
+    @NotNull
+    public static CompletableFuture<RenderedImage> render(@NotNull Path path, int resizedWidth, int resizedHeight,
+                                                          double compact, @Nullable Path cache) {
+        CompletableFuture<RenderedImage> cached = cache == null ?
+                CompletableFuture.completedFuture(null) :
+                CompletableFuture.supplyAsync(() -> loadCache(path, cache, resizedWidth, resizedHeight, compact));
+
+        return cached.thenCompose(cachedImage -> {
+            if (cachedImage != null) return CompletableFuture.completedFuture(cachedImage);
+
+            return Particles.getScaledImage(path, resizedWidth, resizedHeight).thenApply(image -> {
+                if (image == null) return null;
+
+                RenderedImage rendered = render(image, compact);
+                if (cache != null) {
+                    try {
+                        rendered.save(cache);
+                    } catch (IOException ex) {
+                        // The image is still usable, it'll just be rendered again next time.
+                        new IOException("Failed to cache rendered image " + path + " to " + cache, ex).printStackTrace();
+                    }
+                }
+                return rendered;
+            });
+        });
+    }
+
+    /**
+     * @return the cached rendered image, or null if the cache is missing, outdated, corrupted
+     * or rendered with different options.
+     */
+    @Nullable
+    private static RenderedImage loadCache(Path path, Path cache, int width, int height, double compact) {
+        try {
+            if (Files.isRegularFile(cache) &&
+                    Files.getLastModifiedTime(cache).compareTo(Files.getLastModifiedTime(path)) >= 0) {
+                RenderedImage image = load(cache);
+                if (image.width == width && image.height == height && Double.compare(image.compact, compact) == 0) {
+                    return image;
+                }
+            }
+        } catch (IOException ex) {
+            // The cache is corrupted or outdated, render it again.
+        }
+        return null;
+    }
+
+    /**
+     * Reads a rendered image that was {@link #save(Path) saved} before.
+     */
+    @NotNull
+    public static RenderedImage load(@NotNull Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a rendered image: " + path);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Unsupported rendered image version " + version + ": " + path);
+
+            int width = in.readInt();
+            int height = in.readInt();
+            double compact = in.readDouble();
+            int size = in.readInt();
+            if (size < 0) throw new IOException("Invalid rendered image size " + size + ": " + path);
+            float[] x = new float[size];
+            float[] y = new float[size];
+            int[] rgb = new int[size];
+            for (int i = 0; i < size; i++) x[i] = in.readFloat();
+            for (int i = 0; i < size; i++) y[i] = in.readFloat();
+            for (int i = 0; i < size; i++) rgb[i] = in.readInt();
+            return new RenderedImage(width, height, compact, x, y, rgb);
+        }
+    }
+
+    /**
+     * Saves the rendered form of this image, so it can be {@link #load(Path) loaded} without rendering it again.
+     * The file is overwritten if it already exists.
+     */
+    public void save(@NotNull Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(path))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeDouble(compact);
+            out.writeInt(size());
+            for (float value : x) out.writeFloat(value);
+            for (float value : y) out.writeFloat(value);
+            for (int value : rgb) out.writeInt(value);
+        }
+    }
+
+    /**
+     * @return the number of pixels (particles) of this image.
+     */
+    public int size() {
+        return rgb.length;
+    }
+
+    /**
+     * @return the horizontal offset of the pixel from the center of the image.
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * @return the vertical offset of the pixel from the center of the image. Positive values are downwards.
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @return the RGB color of the pixel.
+     */
+    public int getRGB(int index) {
+        return rgb[index];
+    }
+
+    /**
+     * @return the number of unique colors in this image.
+     */
+    public int getPaletteSize() {
+        return palette.length;
+    }
+
+    /**
+     * Gets the dust options of all the colors in this image with the given size.
+     * These are cached for the last used size.
+     */
+    private Particle.DustOptions[] getDustPalette(float size) {
+        DustPalette dustPalette = this.dustPalette;
+        if (dustPalette != null && dustPalette.size == size) return dustPalette.options;
+
+        Particle.DustOptions[] options = new Particle.DustOptions[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            options[i] = new Particle.DustOptions(Color.fromRGB(palette[i]), size);
+        }
+        this.dustPalette = new DustPalette(size, options);
+        return options;
+    }
+
+    /**
+     * Displays this image facing the direction of the location.
+     *
+     * @param location the location of the center of the image. The {@link Location#getYaw()} determines the image's rotation.
+     * @param quality  the number of particles displayed for each pixel. Recommended value is 1
+     * @param speed    the speed of the particles. Recommended amount is 0
+     * @param size     the size of the particles. Recommended amount is 0.8
+     */
+    public void display(@NotNull Location location, int quality, int speed, float size) {
+        World world = location.getWorld();
+        if (world == null) throw new NullPointerException("Location world is null: " + location);
+
+        BlockFace facing = Particles.getImageFacing(location.getYaw());
+        Particle dust = XParticle.DUST.get();
+        Particle.DustOptions[] options = getDustPalette(size);
+        double originX = location.getX(), originY = location.getY(), originZ = location.getZ();
+        Location pixel = new Location(world, 0, 0, 0);
+
+        for (int i = 0; i < rgb.length; i++) {
+            double pixelX = x[i];
+            double pixelY = originY - y[i];
+
+            switch (facing) {
+                case NORTH:
+                    pixel.setX(originX + pixelX);
+                    pixel.setZ(originZ);
+                    break;
+                case EAST:
+                    pixel.setX(originX);
+                    pixel.setZ(originZ + pixelX);
+                    break;
+                case SOUTH:
+                    pixel.setX(originX - pixelX);
+                    pixel.setZ(originZ);
+                    break;
+                case WEST:
+                    pixel.setX(originX);
+                    pixel.setZ(originZ - pixelX);
+                    break;
+                default:
+                    throw new AssertionError("Invalid facing: " + facing);
+            }
+            pixel.setY(pixelY);
+
+            world.spawnParticle(dust, pixel, quality, 0, 0, 0, speed, options[paletteIndex[i]]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RenderedImage{pixels=" + size() + ", colors=" + palette.length + '}';
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation for the {@link MethodHandle}s produced by {@link ReflectiveHandle#unreflect()}
+ * and {@link ReflectiveHandle#reflectOrNull()}, which includes the handles used by
+ * {@link com.cryptomorin.xseries.reflection.proxy.ReflectiveProxy ReflectiveProxy}.
+ * <p>
+ * This can be enabled by setting the {@code xseries.xreflection.metrics} system property to {@code true}
+ * (e.g. {@code -Dxseries.xreflection.metrics=true}) before any handles are created. Each handle is then
+ * wrapped so that its invocation count and the time it took ({@link System#nanoTime()}) are recorded
+ * in a histogram with power of two buckets. When disabled, the original handles are returned untouched.
+ * <p>
+ * Handles are identified by their string representation, so handles that are created multiple times
+ * for the same member share the same metrics. Invocations that throw an exception are counted,
+ * but their time isn't recorded.
+ *
+ * @see XReflection#metrics()
+ * @since 14.2.0
+ */
+@ApiStatus.Experimental
+public final class ReflectionMetrics {
+    /**
+     * System property ({@link System#getProperty(String)}) used to enable the instrumentation.
+     */
+    public static final String PROPERTY = "xseries.xreflection.metrics";
+    public static final boolean ENABLED = isEnabled();
+
+    private static boolean isEnabled() {
+        try {
+            return "true".equalsIgnoreCase(System.getProperty(PROPERTY));
+        } catch (SecurityException ignored) {
+            return false;
+        }
+    }
+
+    private static final int BUCKETS = 64;
+    private static final Map<String, HandleStats> STATS = new ConcurrentHashMap<>();
+    private static final MethodHandle START, RECORD, RECORD_VOID;
+
+    static {
+        MethodHandle start = null, record = null, recordVoid = null;
+        if (ENABLED) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                start = lookup.findVirtual(HandleStats.class, "start", MethodType.methodType(long.class));
+                record = lookup.findVirtual(HandleStats.class, "record", MethodType.methodType(Object.class, long.class, Object.class));
+                recordVoid = lookup.findVirtual(HandleStats.class, "record", MethodType.methodType(void.class, long.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        START = start;
+        RECORD = record;
+        RECORD_VOID = recordVoid;
+    }
+
+    private ReflectionMetrics() {}
+
+    @SuppressWarnings("unchecked")
+    static <T> T instrument(ReflectiveHandle<?> handle, T reflected) {
+        if (!ENABLED || !(reflected instanceof MethodHandle)) return reflected;
+        return (T) instrument(handle.unwrap().toString(), (MethodHandle) reflected);
+    }
+
+    /**
+     * Wraps the handle as {@code record(start(), target(args...))} so the type of the handle doesn't change.
+     */
+    private static MethodHandle instrument(String name, MethodHandle target) {
+        HandleStats stats = STATS.computeIfAbsent(name, HandleStats::new);
+        MethodType type = target.type();
+        Class<?> returnType = type.returnType();
+
+        MethodHandle end;
+        if (returnType == void.class) {
+            end = RECORD_VOID.bindTo(stats);
+        } else {
+            end = RECORD.bindTo(stats).asType(MethodType.methodType(returnType, long.class, returnType));
+        }
+
+        // (long start, args...)
+        MethodHandle timed = MethodHandles.collectArguments(end, 1, target);
+        MethodHandle instrumented = MethodHandles.foldArguments(timed, START.bindTo(stats));
+
+        if (target.isVarargsCollector()) {
+            instrumented = instrumented.asVarargsCollector(type.parameterType(type.parameterCount() - 1));
+        }
+        return instrumented;
+    }
+
+    /**
+     * A snapshot of the metrics of all the instrumented handles that were invoked at least once,
+     * sorted by the total time spent in each handle in descending order.
+     *
+     * @return an empty list if the instrumentation is disabled.
+     */
+    @NotNull
+    public static List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(STATS.size());
+        for (HandleStats stats : STATS.values()) {
+            Snapshot snapshot = stats.snapshot();
+            if (snapshot.invocations != 0) snapshots.add(snapshot);
+        }
+
+        snapshots.sort(Comparator.comparingLong(Snapshot::getTotalNanos).reversed());
+        return snapshots;
+    }
+
+    /**
+     * Clears the recorded metrics of all the handles.
+     */
+    public static void reset() {
+        for (HandleStats stats : STATS.values()) stats.reset();
+    }
+
+    static final class HandleStats {
+        private final String name;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        HandleStats(String name) {
+            this.name = name;
+        }
+
+        long start() {
+            invocations.increment();
+            return System.nanoTime();
+        }
+
+        void record(long start) {
+            recordElapsed(Math.max(0, System.nanoTime() - start));
+        }
+
+        void recordElapsed(long elapsed) {
+            totalNanos.add(elapsed);
+            maxNanos.accumulate(elapsed);
+            histogram.incrementAndGet(bucketOf(elapsed));
+        }
+
+        Object record(long start, Object result) {
+            record(start);
+            return result;
+        }
+
+        private void reset() {
+            invocations.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (int i = 0; i < BUCKETS; i++) histogram.set(i, 0);
+        }
+
+        Snapshot snapshot() {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) buckets[i] = histogram.get(i);
+            return new Snapshot(name, invocations.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+        }
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * The metrics of a single handle at the time {@link #snapshot()} was called.
+     * The histogram bucket at index {@code i} contains the number of invocations that
+     * took {@code [2^i, 2^(i+1))} nanoseconds.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long invocations, totalNanos, maxNanos;
+        private final long[] histogram;
+
+        private Snapshot(String name, long invocations, long totalNanos, long maxNanos, long[] histogram) {
+            this.name = name;
+            this.invocations = invocations;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.histogram = histogram;
+        }
+
+        /**
+         * The string representation of the {@link ReflectiveHandle} that created the handle.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public long getInvocations() {
+            return invocations;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getAverageNanos() {
+            long timed = 0;
+            for (long count : histogram) timed += count;
+            return timed == 0 ? 0 : (double) totalNanos / timed;
+        }
+
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        /**
+         * Estimates the given percentile from the histogram.
+         *
+         * @param percentile a value between 0 and 100.
+         * @return the upper bound of the bucket that the percentile falls in, in nanoseconds.
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100)
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+
+            long timed = 0;
+            for (long count : histogram) timed += count;
+            if (timed == 0) return 0;
+
+            long target = (long) Math.ceil(timed * (percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i];
+                if (seen >= target && seen != 0) return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1));
+            }
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" + name +
+                    ", invocations=" + invocations +
+                    ", avg=" + String.format("%.1f", getAverageNanos()) + "ns" +
+                    ", p99=" + getPercentile(99) + "ns" +
+                    ", max=" + maxNanos + "ns}";
+        }
+    }
+}
@@ -90,7 +90,7 @@ public interface ReflectiveHandle<T> {
     @Contract(pure = true)
     default T unreflect() {
         try {
-            return reflect();
+            return ReflectionMetrics.instrument(this, reflect());
         } catch (ReflectiveOperationException e) {
             throw XReflection.throwCheckedException(e);
         }
@@ -106,7 +106,7 @@ public interface ReflectiveHandle<T> {
     @Contract(pure = true)
     default T reflectOrNull() {
         try {
-            return reflect();
+            return ReflectionMetrics.instrument(this, reflect());
         } catch (ReflectiveOperationException ignored) {
             return null;
         }
@@ -24,6 +24,7 @@ package com.cryptomorin.xseries.reflection;
 import com.cryptomorin.xseries.reflection.aggregate.AggregateReflectiveHandle;
 import com.cryptomorin.xseries.reflection.aggregate.AggregateReflectiveSupplier;
 import com.cryptomorin.xseries.reflection.aggregate.VersionHandle;
+import com.cryptomorin.xseries.reflection.asm.ASMPrecompiledProxies;
 import com.cryptomorin.xseries.reflection.asm.XReflectASM;
 import com.cryptomorin.xseries.reflection.constraint.ReflectiveConstraint;
 import com.cryptomorin.xseries.reflection.jvm.MethodMemberHandle;
@@ -104,6 +105,7 @@ import java.util.stream.Collectors;
  *         almost as fast as direct calls, even for inaccessible private methods due to the use of
  *         {@link java.lang.invoke.MethodHandle#invokeExact(Object...)} with polymorphic signature.
  *         This system is only used if at least ASM9 is detected during runtime (supports shading as well)
+ *         or if the classes were already generated during build time using {@code XReflectASMPrecompiler}.
  *     </li>
  *     <li>
  *         <strong>Stage V (Compile-Time Remapper):</strong> ???
@@ -866,6 +868,20 @@ public final class XReflection {
 
     private static final Map<Class<?>, ReflectiveProxyObject> PROXIFIED_CLASSES = new IdentityHashMap<>();
 
+    /**
+     * A snapshot of the invocation counts and latencies of the handles created by {@link ReflectiveHandle#unreflect()}.
+     * This is only available when the instrumentation is enabled using the {@link ReflectionMetrics#PROPERTY} system property.
+     *
+     * @return an empty list if the instrumentation is disabled.
+     * @see ReflectionMetrics
+     * @since 14.2.0
+     */
+    @ApiStatus.Experimental
+    @NotNull
+    public static List<ReflectionMetrics.Snapshot> metrics() {
+        return ReflectionMetrics.snapshot();
+    }
+
     /**
      * Returns a cached value if this interface is already proxified, otherwise proxifies and returns it.
      *
@@ -881,11 +897,14 @@ public final class XReflection {
         if (loaded != null) // noinspection unchecked
             return (T) loaded;
 
-        T proxified;
-        if (SUPPORTS_ASM) {
-            proxified = XReflectASM.proxify(interfaceClass).create();
-        } else {
-            proxified = ReflectiveProxy.proxify(interfaceClass).proxy();
+        // Classes generated during build time don't need ASM.
+        T proxified = ASMPrecompiledProxies.load(interfaceClass);
+        if (proxified == null) {
+            if (SUPPORTS_ASM) {
+                proxified = XReflectASM.proxify(interfaceClass).create();
+            } else {
+                proxified = ReflectiveProxy.proxify(interfaceClass).proxy();
+            }
         }
 
         PROXIFIED_CLASSES.put(interfaceClass, proxified);
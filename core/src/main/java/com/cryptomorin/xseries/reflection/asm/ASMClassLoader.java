@@ -41,6 +41,10 @@ final class ASMClassLoader extends ClassLoader {
 
     protected ASMClassLoader() {}
 
+    protected ASMClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
     protected Class<?> defineClass(String name, byte[] bytes) {
         return super.defineClass(asmTypeToBinary(name), bytes, 0, bytes.length);
     }
@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection.asm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+
+/**
+ * Defines {@link XReflectASM} generated classes next to the class they're proxying instead of
+ * inside our own isolated {@link ASMClassLoader}. A class that lives in the same runtime package
+ * as the target class can access package-private and protected members directly, and a class that's
+ * a nestmate of the target class can also access private members directly, so the generated proxy
+ * no longer needs to go through {@link MethodHandle} static fields for those members.
+ * <p>
+ * This only works if the target class's class loader is able to see the proxy interface itself
+ * (and the other classes that the generated class references) since the generated class will be
+ * defined inside that class loader. For example, this is not the case for most plugins as the
+ * server's class loader can't see plugin classes, in which case we simply fall back to {@link Mode#ISOLATED}.
+ * <p>
+ * All the JDK 9+ and 15+ methods are accessed reflectively since we still support Java 8.
+ * This behavior can be disabled with the {@code xseries.xreflection.asm.hostDefinition=false} system property.
+ *
+ * @since 14.2.0
+ */
+final class ASMHostDefiner {
+    /**
+     * {@code MethodHandles.privateLookupIn(Class<?> targetClass, Lookup caller)} (Java 9)
+     */
+    private static final MethodHandle PRIVATE_LOOKUP_IN;
+
+    /**
+     * {@code Lookup.defineClass(byte[] bytes)} (Java 9)
+     */
+    private static final MethodHandle DEFINE_CLASS;
+
+    /**
+     * {@code Lookup.defineHiddenClass(byte[] bytes, boolean initialize, ClassOption... options)} (Java 15)
+     */
+    private static final MethodHandle DEFINE_HIDDEN_CLASS;
+
+    /**
+     * A {@code ClassOption[]{NESTMATE}} array.
+     */
+    private static final Object NESTMATE_OPTIONS;
+
+    private static final boolean ENABLED;
+
+    enum Mode {
+        /**
+         * The generated class is a hidden nestmate of the target class, all members of the
+         * target class (including private ones) can be accessed directly.
+         */
+        NESTMATE,
+
+        /**
+         * The generated class is defined in the target class's runtime package.
+         * Package-private and protected members can be accessed directly, private members still need a {@link MethodHandle}.
+         */
+        PACKAGE,
+
+        /**
+         * The generated class is defined in {@link ASMClassLoader}, only public members can be accessed directly.
+         */
+        ISOLATED;
+
+        boolean canAccess(Class<?> targetClass, Class<?> declaringClass, boolean isPrivate) {
+            switch (this) {
+                case NESTMATE:
+                    if (declaringClass == targetClass) return true;
+                    // fall through
+                case PACKAGE:
+                    return !isPrivate && isSameRuntimePackage(targetClass, declaringClass);
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle privateLookupIn = null, defineClass = null, defineHiddenClass = null;
+        Object nestmateOptions = null;
+        boolean enabled = true;
+
+        try {
+            enabled = !"false".equalsIgnoreCase(System.getProperty("xseries.xreflection.asm.hostDefinition"));
+        } catch (SecurityException ignored) {
+            // If we don't have access to system properties, don't care.
+        }
+
+        try {
+            privateLookupIn = lookup.findStatic(MethodHandles.class, "privateLookupIn",
+                    MethodType.methodType(MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+            defineClass = lookup.findVirtual(MethodHandles.Lookup.class, "defineClass",
+                    MethodType.methodType(Class.class, byte[].class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+            // Java 8
+        }
+
+        try {
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            Object options = Array.newInstance(classOption, 1);
+            for (Object option : classOption.getEnumConstants()) {
+                if (((Enum<?>) option).name().equals("NESTMATE")) Array.set(options, 0, option);
+            }
+
+            // This method is varargs, we don't want the last parameter to be collected again.
+            defineHiddenClass = lookup.findVirtual(MethodHandles.Lookup.class, "defineHiddenClass",
+                    MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, options.getClass())
+            ).asFixedArity();
+            nestmateOptions = options;
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException ignored) {
+            // Java 14 or lower
+        }
+
+        ENABLED = enabled;
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+        DEFINE_CLASS = defineClass;
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        NESTMATE_OPTIONS = nestmateOptions;
+    }
+
+    private ASMHostDefiner() {}
+
+    /**
+     * Finds the best possible way to define a generated class for the given target class.
+     *
+     * @param targetClass the class that the generated class is going to access.
+     * @param required    all the classes that the generated class references, which must also be visible
+     *                    from the target class's class loader.
+     */
+    static Mode resolveMode(Class<?> targetClass, Class<?>... required) {
+        if (!ENABLED || PRIVATE_LOOKUP_IN == null) return Mode.ISOLATED;
+        if (targetClass.isInterface() || targetClass.isArray() || targetClass.isPrimitive()) return Mode.ISOLATED;
+
+        ClassLoader loader = targetClass.getClassLoader();
+        for (Class<?> clazz : required) {
+            if (!isVisible(loader, clazz)) return Mode.ISOLATED;
+        }
+
+        MethodHandles.Lookup lookup = privateLookup(targetClass);
+        if (lookup == null) return Mode.ISOLATED;
+
+        int modes = lookup.lookupModes();
+        boolean fullPrivilege = (modes & MethodHandles.Lookup.PRIVATE) != 0 && (modes & MethodHandles.Lookup.MODULE) != 0;
+        if (DEFINE_HIDDEN_CLASS != null && fullPrivilege) return Mode.NESTMATE;
+        if ((modes & MethodHandles.Lookup.PACKAGE) != 0) return Mode.PACKAGE;
+        return Mode.ISOLATED;
+    }
+
+    /**
+     * The generated class's binary name must be in the same package as the target class
+     * for {@link Mode#NESTMATE} and {@link Mode#PACKAGE} modes.
+     */
+    static Class<?> define(Mode mode, Class<?> targetClass, byte[] bytecode) {
+        MethodHandles.Lookup lookup = privateLookup(targetClass);
+        if (lookup == null) throw new IllegalStateException("Cannot get a private lookup for " + targetClass);
+
+        try {
+            switch (mode) {
+                case NESTMATE:
+                    return ((MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(lookup, bytecode, true, NESTMATE_OPTIONS)).lookupClass();
+                case PACKAGE:
+                    return (Class<?>) DEFINE_CLASS.invoke(lookup, bytecode);
+                default:
+                    throw new IllegalArgumentException("Cannot define isolated classes for host " + targetClass);
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to define generated class for " + targetClass + " in " + mode + " mode", e);
+        }
+    }
+
+    private static MethodHandles.Lookup privateLookup(Class<?> targetClass) {
+        try {
+            return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invokeExact(targetClass, MethodHandles.lookup());
+        } catch (Throwable ignored) {
+            // IllegalAccessException if the package isn't opened to us (e.g. java.base classes)
+            return null;
+        }
+    }
+
+    private static boolean isVisible(ClassLoader loader, Class<?> clazz) {
+        try {
+            return Class.forName(clazz.getName(), false, loader) == clazz;
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return false;
+        }
+    }
+
+    private static boolean isSameRuntimePackage(Class<?> first, Class<?> second) {
+        return first.getClassLoader() == second.getClassLoader() && getPackageName(first).equals(getPackageName(second));
+    }
+
+    static String getPackageName(Class<?> clazz) {
+        String name = clazz.getName();
+        int lastDot = name.lastIndexOf('.');
+        return lastDot == -1 ? "" : name.substring(0, lastDot);
+    }
+}
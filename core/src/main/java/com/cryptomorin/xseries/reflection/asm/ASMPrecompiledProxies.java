@@ -0,0 +1,242 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection.asm;
+
+import com.cryptomorin.xseries.reflection.jvm.objects.ReflectedObject;
+import com.cryptomorin.xseries.reflection.proxy.ClassOverloadedMethods;
+import com.cryptomorin.xseries.reflection.proxy.OverloadedMethod;
+import com.cryptomorin.xseries.reflection.proxy.ReflectiveProxyObject;
+import com.cryptomorin.xseries.reflection.proxy.processors.MappedType;
+import com.cryptomorin.xseries.reflection.proxy.processors.ProxyMethodInfo;
+import com.cryptomorin.xseries.reflection.proxy.processors.ReflectiveAnnotationProcessor;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Loads classes that were generated by {@link XReflectASMPrecompiler} during build time, so no bytecode needs
+ * to be generated during runtime. This class (and the precompiled classes themselves) don't require ASM,
+ * so if all the proxies used by a plugin are precompiled, ASM doesn't need to be shaded at all.
+ * <p>
+ * A precompiled class is only valid for the exact same members that it was generated for, which depend on the
+ * server's version and {@link com.cryptomorin.xseries.reflection.minecraft.MinecraftMapping mapping}.
+ * So each variant is stored under a fingerprint of the resolved target members, and the annotation processor
+ * still runs during runtime (which doesn't need ASM) to compute the fingerprint of the current server.
+ * If no variant matches, we simply fall back to generating the class during runtime.
+ * <p>
+ * The resources are stored in the following format:
+ * <pre>{@code
+ * META-INF/xseries/proxies/<interface binary name>          -> Lines of "<fingerprint> <generated class binary name>"
+ * META-INF/xseries/proxies/<fingerprint>/<generated class path>.class
+ * }</pre>
+ *
+ * @since 14.2.0
+ */
+@ApiStatus.Internal
+public final class ASMPrecompiledProxies {
+    static final String RESOURCE_ROOT = "META-INF/xseries/proxies/";
+
+    private static final Map<Class<?>, Class<?>> LOADED = new IdentityHashMap<>();
+
+    /**
+     * Interfaces whose precompiled class was defined, but couldn't be used because their dependencies
+     * weren't precompiled. The class can't be defined again with the same name, so they're never retried.
+     */
+    private static final Set<Class<?>> FAILED = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Precompiled classes reference each other directly by their names, so they must be in the same class loader.
+     * They're also kept separate from the runtime generated classes to prevent name conflicts.
+     */
+    private static final ASMClassLoader CLASS_LOADER = new ASMClassLoader(ASMPrecompiledProxies.class.getClassLoader());
+
+    private ASMPrecompiledProxies() {}
+
+    /**
+     * @return the factory proxy object, or null if there are no precompiled variants for the current server.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T extends ReflectiveProxyObject> T load(Class<T> interfaceClass) {
+        return load(interfaceClass, interfaceClass.getClassLoader());
+    }
+
+    /**
+     * @param resources the class loader to read the precompiled resources from.
+     * @return the factory proxy object, or null if there are no precompiled variants for the current server.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T extends ReflectiveProxyObject> T load(Class<T> interfaceClass, @Nullable ClassLoader resources) {
+        if (resources == null) return null;
+        synchronized (LOADED) {
+            if (FAILED.contains(interfaceClass)) return null;
+        }
+
+        Map<String, String> variants = readVariants(resources, interfaceClass);
+        if (variants.isEmpty()) return null;
+
+        ReflectiveAnnotationProcessor processor = new ReflectiveAnnotationProcessor(interfaceClass);
+        processor.process(ASMPrecompiledProxies::descriptorProcessor);
+
+        String fingerprint = fingerprint(interfaceClass, processor.getTargetClass(), processor.getMapped());
+        String generatedClassName = variants.get(fingerprint);
+        if (generatedClassName == null) return null;
+
+        byte[] bytecode = readResource(resources,
+                RESOURCE_ROOT + fingerprint + '/' + generatedClassName.replace('.', '/') + ".class");
+        if (bytecode == null) return null;
+
+        Class<?> generated;
+        synchronized (LOADED) {
+            generated = LOADED.get(interfaceClass);
+            if (generated == null) {
+                generated = CLASS_LOADER.defineClass(generatedClassName, bytecode);
+                LOADED.put(interfaceClass, generated);
+            }
+        }
+
+        // Precompiled classes reference other precompiled classes directly by their names.
+        processor.loadDependencies(ASMPrecompiledProxies::isLoaded);
+        if (!dependenciesArePrecompiled(processor, interfaceClass)) {
+            synchronized (LOADED) {
+                LOADED.remove(interfaceClass);
+                FAILED.add(interfaceClass);
+            }
+            return null;
+        }
+
+        try {
+            Constructor<?> ctor = generated.getDeclaredConstructor(processor.getTargetClass());
+            return (T) ctor.newInstance(new Object[]{null});
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Couldn't initialize precompiled ASM class: " + interfaceClass + " -> " + generated, e);
+        }
+    }
+
+    private static boolean dependenciesArePrecompiled(ReflectiveAnnotationProcessor processor, Class<?> interfaceClass) {
+        for (OverloadedMethod<ProxyMethodInfo> overloads : processor.getMapped().mappings().values()) {
+            for (ProxyMethodInfo overload : overloads.getOverloads()) {
+                if (!isPrecompiled(overload.rType, interfaceClass)) return false;
+                for (MappedType pType : overload.pTypes) {
+                    if (!isPrecompiled(pType, interfaceClass)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrecompiled(MappedType type, Class<?> interfaceClass) {
+        if (type.synthetic == interfaceClass || !ReflectiveProxyObject.class.isAssignableFrom(type.synthetic)) return true;
+        return isLoaded(type.synthetic);
+    }
+
+    private static boolean isLoaded(Class<?> interfaceClass) {
+        synchronized (LOADED) {
+            return LOADED.containsKey(interfaceClass);
+        }
+    }
+
+    /**
+     * Only used for overload resolution of the processor, doesn't need to be a real descriptor.
+     */
+    static String descriptorProcessor(ProxyMethodInfo info) {
+        return Arrays.toString(MappedType.getRealTypes(info.pTypes));
+    }
+
+    /**
+     * Computes a stable fingerprint of the members that a proxy interface resolved to.
+     * Any change to the target class, member names, types or access flags (which is what changes between
+     * server versions and mappings) results in a different fingerprint.
+     */
+    static String fingerprint(Class<?> interfaceClass, Class<?> targetClass, ClassOverloadedMethods<ProxyMethodInfo> mapped) {
+        List<String> members = new ArrayList<>();
+        for (OverloadedMethod<ProxyMethodInfo> overloads : mapped.mappings().values()) {
+            for (ProxyMethodInfo overload : overloads.getOverloads()) {
+                ReflectedObject jvm = overload.handle.jvm().unreflect();
+                members.add(overload.interfaceMethod.toGenericString() + " -> " + jvm.unreflect());
+            }
+        }
+        Collections.sort(members);
+
+        StringBuilder builder = new StringBuilder(members.size() * 100);
+        builder.append(interfaceClass.getName()).append(" -> ").append(targetClass.getName()).append('\n');
+        for (String member : members) builder.append(member).append('\n');
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                hex.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * @return fingerprint -> generated class binary name
+     */
+    static Map<String, String> readVariants(ClassLoader resources, Class<?> interfaceClass) {
+        Map<String, String> variants = new HashMap<>(3);
+        InputStream stream = resources.getResourceAsStream(RESOURCE_ROOT + interfaceClass.getName());
+        if (stream == null) return variants;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                int space = line.indexOf(' ');
+                if (space == -1) continue;
+                variants.put(line.substring(0, space), line.substring(space + 1).trim());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read precompiled proxy variants of " + interfaceClass, e);
+        }
+
+        return variants;
+    }
+
+    private static byte[] readResource(ClassLoader resources, String path) {
+        try (InputStream stream = resources.getResourceAsStream(path)) {
+            if (stream == null) return null;
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) output.write(buffer, 0, read);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read precompiled proxy class " + path, e);
+        }
+    }
+}
@@ -22,6 +22,8 @@
 
 package com.cryptomorin.xseries.reflection.asm;
 
+import com.cryptomorin.xseries.reflection.XReflection;
+import com.cryptomorin.xseries.reflection.proxy.ReflectiveProxyObject;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.lang.invoke.MethodHandle;
@@ -47,6 +49,18 @@ public final class ASMPrivateLookup {
         this.targetClass = targetClass;
     }
 
+    /**
+     * Used by generated classes to get the factory object of another proxy class when it's not possible to
+     * directly reference the other generated class (See {@link ASMHostDefiner} and {@link ASMPrecompiledProxies}).
+     * The generated class only calls this once and keeps the factory to {@link ReflectiveProxyObject#bindTo(Object) bind}
+     * the return values to it.
+     * This is also placed here instead of {@link XReflectASM} so precompiled classes don't need ASM during runtime.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ReflectiveProxyObject proxyFactory(Class<?> interfaceClass) {
+        return XReflection.proxify((Class) interfaceClass);
+    }
+
     public MethodHandle findMethod(String name, Class<?> rType, Class<?>[] pTypes) throws IllegalAccessException {
         Method found = new ReflectionIterator<>(clazz -> clazz.getDeclaredMethod(name, pTypes)).find();
         if (found == null) {
@@ -76,6 +76,11 @@ import static org.objectweb.asm.commons.Method.getMethod;
  * You can see the a class that similarly resembles the generated class in the test sources named {@code ASMGeneratedSample}.
  * We could also take inspiration from {@code java.lang.invoke.InnerClassLambdaMetafactory} which generates something similar.
  * <p>
+ * Public members are always accessed directly using {@code GETFIELD}/{@code PUTFIELD}/{@code INVOKEVIRTUAL}/{@code NEW}.
+ * Other members are accessed using {@link MethodHandle} static fields, unless the generated class can be defined next to
+ * the target class (See {@link ASMHostDefiner}) in which case package-private, protected and (for hidden nestmates)
+ * private members are also accessed directly.
+ * <p>
  * TODO Cleanup this class, it's really crowded in here.
  *
  * @see ReflectiveProxyObject
@@ -139,6 +144,12 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
 
     private static final String METHOD_HANDLE_PREFIX = "H_";
 
+    /**
+     * The prefix of the static fields that hold the factory object of other proxies that
+     * are returned by this proxy but can't be referenced directly, see {@link #requiresBoundConversion(Class)}
+     */
+    private static final String PROXY_FACTORY_PREFIX = "P_";
+
     /**
      * In binary format so relocation can happen
      */
@@ -242,11 +253,23 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
     private final Type templateClassType, targetClassType, generatedClassType;
     private final String generatedClassName, generatedClassPath;
 
+    /**
+     * Where the generated class is going to be defined, which determines which members
+     * can be accessed directly instead of using {@link MethodHandle}s.
+     */
+    private final ASMHostDefiner.Mode mode;
+
     private Class<?> loaded;
     private byte[] bytecode;
 
     private final ClassOverloadedMethods<ASMProxyInfo> mapped;
 
+    /**
+     * The static field name of each proxy class that is returned by {@link #requiresBoundConversion(Class) binding}
+     * to its factory object, these fields are set the first time they're used.
+     */
+    private final Map<Class<?>, String> proxyFactories = new LinkedHashMap<>();
+
     private static final class ASMProxyInfo {
         private final ProxyMethodInfo info;
         private final String methodHandleName;
@@ -319,8 +342,18 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
     }
 
     public XReflectASM(Class<T> templateClass, Class<?> targetClass, ClassOverloadedMethods<ProxyMethodInfo> mapped) {
+        this(templateClass, targetClass, mapped, ASMHostDefiner.resolveMode(targetClass,
+                templateClass, ReflectiveProxyObject.class, ASMPrivateLookup.class));
+    }
+
+    /**
+     * @param mode where the generated class is going to be defined. {@link XReflectASMPrecompiler} always uses
+     *             {@link ASMHostDefiner.Mode#ISOLATED} regardless of what the current environment supports.
+     */
+    XReflectASM(Class<T> templateClass, Class<?> targetClass, ClassOverloadedMethods<ProxyMethodInfo> mapped, ASMHostDefiner.Mode mode) {
         super(ASM_VERSION);
-        this.mapped = mapTypes(mapped);
+        this.mode = mode;
+        this.mapped = mapTypes(mapped, mode, targetClass);
 
         try {
             this.classReader = new ClassReader(templateClass.getName());
@@ -336,7 +369,13 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
         this.targetClassType = Type.getType(targetClass);
 
         this.generatedClassName = templateClass.getSimpleName() + GENERATED_CLASS_SUFFIX;
-        this.generatedClassPath = getGeneratedClassPath(templateClass);
+        if (mode == ASMHostDefiner.Mode.ISOLATED) {
+            this.generatedClassPath = getGeneratedClassPath(templateClass);
+        } else {
+            // Hidden classes and classes defined by a Lookup must be in the same package as the lookup class.
+            String targetPackage = ASMHostDefiner.getPackageName(targetClass);
+            this.generatedClassPath = targetPackage.isEmpty() ? generatedClassName : targetPackage + '.' + generatedClassName;
+        }
         this.generatedClassType = Type.getType('L' + generatedClassPath.replace('.', '/') + ';');
     }
 
@@ -350,11 +389,31 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
         return bytecode;
     }
 
+    /**
+     * The binary name of the generated class, e.g. {@code com.example.generated.MyProxy_XSeriesGen_589824_65}
+     */
+    public String getGeneratedClassBinaryName() {
+        return generatedClassPath;
+    }
+
+    /**
+     * Whether the generated class of the given proxy can't be referenced directly when converting return values.
+     * Either the other generated class is a hidden class which cannot be referenced by name,
+     * they're defined in different class loaders which can't see each other, or the other
+     * class was loaded from a precompiled class (See {@link ASMPrecompiledProxies})
+     */
+    private boolean requiresBoundConversion(Class<?> proxyClass) {
+        if (proxyClass == templateClass) return false;
+        XReflectASM<?> returnProxy = PROCESSED.get(proxyClass);
+        return !(mode == ASMHostDefiner.Mode.ISOLATED && returnProxy != null && returnProxy.mode == ASMHostDefiner.Mode.ISOLATED);
+    }
+
     private static boolean shouldRemoveAnnotation(String descriptor) {
         return descriptor.startsWith(XSERIES_ANNOTATIONS);
     }
 
-    private static ClassOverloadedMethods<ASMProxyInfo> mapTypes(ClassOverloadedMethods<ProxyMethodInfo> mapped) {
+    private static ClassOverloadedMethods<ASMProxyInfo> mapTypes(ClassOverloadedMethods<ProxyMethodInfo> mapped,
+                                                             ASMHostDefiner.Mode mode, Class<?> targetClass) {
         OverloadedMethod.Builder<ASMProxyInfo> asmMapped = new OverloadedMethod.Builder<>(x -> descriptorProcessor(x.info));
         for (Map.Entry<String, OverloadedMethod<ProxyMethodInfo>> overloads : mapped.mappings().entrySet()) {
             Collection<ProxyMethodInfo> overloaded = overloads.getValue().getOverloads();
@@ -362,7 +421,14 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
             int overloadIndex = 0;
             for (ProxyMethodInfo overload : overloaded) {
                 ReflectedObject jvm = overload.handle.jvm().unreflect();
-                if (!jvm.accessFlags().contains(XAccessFlag.PUBLIC)) {
+                Set<XAccessFlag> accessFlags = jvm.accessFlags();
+                // Final fields can only be written inside the declaring class's initializers, even by nestmates.
+                boolean finalSetter = jvm.type() == ReflectedObject.Type.FIELD && accessFlags.contains(XAccessFlag.FINAL)
+                        && !((FieldMemberHandle) overload.handle.unwrap()).isGetter();
+                boolean accessible = accessFlags.contains(XAccessFlag.PUBLIC) || (!finalSetter &&
+                        mode.canAccess(targetClass, jvm.getDeclaringClass(), accessFlags.contains(XAccessFlag.PRIVATE)));
+
+                if (!accessible) {
                     String name;
                     switch (jvm.type()) {
                         case CONSTRUCTOR:
@@ -428,6 +494,22 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
         }
         writePrivateFinalField(false, INSTANCE_FIELD, targetClass);
 
+        for (OverloadedMethod<ASMProxyInfo> method : this.mapped.mappings().values()) {
+            for (ASMProxyInfo overload : method.getOverloads()) {
+                MappedType rType = overload.info.rType;
+                if (rType.isDifferent() && !rType.synthetic.isAssignableFrom(rType.real)
+                        && ReflectiveProxyObject.class.isAssignableFrom(rType.synthetic)
+                        && requiresBoundConversion(rType.synthetic) && !proxyFactories.containsKey(rType.synthetic)) {
+                    String fieldName = PROXY_FACTORY_PREFIX + proxyFactories.size();
+                    proxyFactories.put(rType.synthetic, fieldName);
+                    // Not final, it's lazily set since the other proxy might also reference this one, and resolving
+                    // them in both static initializers can deadlock if they're initialized from different threads.
+                    classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, fieldName,
+                            Type.getDescriptor(ReflectiveProxyObject.class), null, null).visitEnd();
+                }
+            }
+        }
+
         if (needsStaticInit) initStaticFields();
         writeConstructor(); // initialize instance and private/final reflection accessors
     }
@@ -562,6 +644,7 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
 
             Type syntheticReturnType, realReturnType; // If needsConversion is true, what type should we convert into?
             boolean needsConversion; // Should the origial type be converted or returned as it is?
+            boolean bindConversion = false; // Should the conversion be done by binding the other proxy's factory instead of the generated class?
             MappedType rType = handle.info.rType;
             if (rType.isDifferent()) {
                 if (rType.synthetic.isAssignableFrom(rType.real)) {
@@ -570,9 +653,20 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
                 } else if (ReflectiveProxyObject.class.isAssignableFrom(rType.synthetic)) {
                     needsConversion = true;
                     realReturnType = Type.getType(rType.real);
-                    syntheticReturnType = getType(getGeneratedClassPath(rType.synthetic));
-                    adapter.newInstance(syntheticReturnType);
-                    adapter.dup();
+
+                    if (rType.synthetic == templateClass) {
+                        syntheticReturnType = generatedClassType;
+                    } else if (!requiresBoundConversion(rType.synthetic)) {
+                        syntheticReturnType = getType(PROCESSED.get(rType.synthetic).generatedClassPath);
+                    } else {
+                        syntheticReturnType = Type.getType(rType.synthetic);
+                        bindConversion = true;
+                    }
+
+                    if (!bindConversion) {
+                        adapter.newInstance(syntheticReturnType);
+                        adapter.dup();
+                    }
                 } else {
                     throw new VerifyError("Cannot convert return type "
                             + rType.synthetic + " to " + rType.real
@@ -717,7 +811,28 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
                     throw new IllegalStateException("Unknown ReflectedObject type: " + type);
             }
 
-            if (needsConversion) {
+            if (bindConversion) {
+                // if (P_0 == null) P_0 = ASMPrivateLookup.proxyFactory(OtherProxyClass.class);
+                // return (OtherProxyClass) P_0.bindTo(new TargetClassConstructor(...));
+                String factoryField = proxyFactories.get(rType.synthetic);
+                Type factoryType = Type.getType(ReflectiveProxyObject.class);
+                Label resolved = adapter.newLabel();
+                adapter.getStatic(generatedClassType, factoryField, factoryType);
+                adapter.dup();
+                adapter.ifNonNull(resolved);
+                adapter.pop();
+                adapter.push(syntheticReturnType);
+                adapter.invokeStatic(Type.getType(ASMPrivateLookup.class), new org.objectweb.asm.commons.Method(
+                        "proxyFactory", factoryType, new Type[]{Type.getType(Class.class)}));
+                adapter.dup();
+                adapter.putStatic(generatedClassType, factoryField, factoryType);
+                adapter.mark(resolved);
+
+                adapter.swap();
+                adapter.invokeInterface(factoryType, new org.objectweb.asm.commons.Method(
+                        "bindTo", factoryType, new Type[]{Type.getType(Object.class)}));
+                adapter.checkCast(syntheticReturnType);
+            } else if (needsConversion) {
                 // return new OtherGeneratedProxyClass(new TargetClassConstructor(...));
                 adapter.invokeConstructor(syntheticReturnType, new org.objectweb.asm.commons.Method(
                         CONSTRUCTOR_NAME, Type.VOID_TYPE, new Type[]{realReturnType}));
@@ -1279,6 +1394,7 @@ public final class XReflectASM<T extends ReflectiveProxyObject> extends ClassVis
         generate();
         verify(true); // Silently verifies the class unless there's an issue, in which case uses System.err
         // writeToFile(Paths.get(System.getProperty("user.home") + "/Desktop/"));
+        if (mode != ASMHostDefiner.Mode.ISOLATED) return this.loaded = ASMHostDefiner.define(mode, targetClass, bytecode);
         return this.loaded = CLASS_LOADER.defineClass(generatedClassPath, bytecode);
     }
 }
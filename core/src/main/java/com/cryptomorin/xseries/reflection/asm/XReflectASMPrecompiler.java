@@ -0,0 +1,277 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection.asm;
+
+import com.cryptomorin.xseries.reflection.XReflection;
+import com.cryptomorin.xseries.reflection.proxy.OverloadedMethod;
+import com.cryptomorin.xseries.reflection.proxy.ReflectiveProxyObject;
+import com.cryptomorin.xseries.reflection.proxy.annotations.Proxify;
+import com.cryptomorin.xseries.reflection.proxy.processors.MappedType;
+import com.cryptomorin.xseries.reflection.proxy.processors.ProxyMethodInfo;
+import com.cryptomorin.xseries.reflection.proxy.processors.ReflectiveAnnotationProcessor;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates {@link XReflectASM} classes during build time for all {@link Proxify} interfaces so they can be
+ * loaded by {@link ASMPrecompiledProxies} during runtime without generating any bytecode or requiring ASM.
+ * <p>
+ * There's no running server during build time, so {@link #main(String[])} disables the Minecraft capabilities
+ * of {@link XReflection} (see {@link XReflection#DISABLE_MINECRAFT_CAPABILITIES_PROPERTY}) and uses the server
+ * version given by the {@code xseries.xreflection.asm.serverVersion} system property for version checks.
+ * This means only proxies that don't target Minecraft classes can be precompiled this way, the rest are skipped
+ * and simply generated during runtime instead. Proxies that target Minecraft classes can still be precompiled
+ * by calling {@link #precompile(Class)} from a running server, once for every server version and mapping
+ * with the same output directory, the variants will be merged.
+ * <p>
+ * For example using the {@code exec-maven-plugin}:
+ * <pre>{@code
+ * <execution>
+ *     <id>precompile-proxies-mojang</id>
+ *     <phase>process-classes</phase>
+ *     <goals>
+ *         <goal>exec</goal>
+ *     </goals>
+ *     <configuration>
+ *         <executable>java</executable>
+ *         <arguments>
+ *             <argument>-Dxseries.xreflection.asm.serverVersion=1.21.4</argument>
+ *             <argument>-cp</argument>
+ *             <argument>${project.build.outputDirectory}${path.separator}${bukkitApiJar}${path.separator}...</argument>
+ *             <argument>com.cryptomorin.xseries.reflection.asm.XReflectASMPrecompiler</argument>
+ *             <argument>${project.build.outputDirectory}</argument>
+ *             <argument>${project.build.outputDirectory}</argument>
+ *         </arguments>
+ *     </configuration>
+ * </execution>
+ * }</pre>
+ * Arguments: {@code <output directory> <compiled classes directory or interface class name>...}
+ * <p>
+ * The generated classes are always generated for Java 8 and in the {@link ASMHostDefiner.Mode#ISOLATED} mode
+ * since those are the only properties that we can't know during build time. Use the {@code xseries.xreflection.asm.javaVersion}
+ * system property to generate classes for a different class file format.
+ * <p>
+ * The files of each proxy (and the proxies it uses) are written to a temporary directory first and only moved
+ * to the output directory once all of them are generated, so a failed proxy never leaves partial files behind.
+ *
+ * @since 14.2.0
+ */
+@ApiStatus.Internal
+public final class XReflectASMPrecompiler {
+    private final Path output;
+    private final Set<Class<?>> precompiled = new HashSet<>();
+
+    public XReflectASMPrecompiler(Path output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: XReflectASMPrecompiler <output directory> <compiled classes directory or interface class name>...");
+            System.exit(1);
+            return;
+        }
+
+        // These must be set before any of the other ASM classes are initialized.
+        System.setProperty("xseries.xreflection.asm.hostDefinition", "false");
+        if (System.getProperty("xseries.xreflection.asm.javaVersion") == null) {
+            System.setProperty("xseries.xreflection.asm.javaVersion", String.valueOf(52)); // Java 8
+        }
+        // XReflection needs a running server otherwise.
+        System.setProperty(XReflection.DISABLE_MINECRAFT_CAPABILITIES_PROPERTY,
+                System.getProperty("xseries.xreflection.asm.serverVersion", ""));
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        List<Class<? extends ReflectiveProxyObject>> interfaces = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            Path path = Paths.get(args[i]);
+            if (Files.isDirectory(path)) interfaces.addAll(scan(path, loader));
+            else interfaces.add(asProxyInterface(args[i], loader, true));
+        }
+
+        XReflectASMPrecompiler precompiler = new XReflectASMPrecompiler(Paths.get(args[0]));
+        int skipped = 0;
+        for (Class<? extends ReflectiveProxyObject> interfaceClass : interfaces) {
+            try {
+                precompiler.precompile(interfaceClass);
+            } catch (RuntimeException | LinkageError ex) {
+                // Usually because it targets a Minecraft class which can't be resolved without a server.
+                System.err.println("[XSeries/XReflection] Skipped precompiling " + interfaceClass.getName() + ": " + ex);
+                skipped++;
+            }
+        }
+        System.out.println("[XSeries/XReflection] Precompiled " + precompiler.precompiled.size()
+                + " proxy classes, skipped " + skipped + " (these will be generated during runtime.)");
+    }
+
+    /**
+     * Generates the proxy class of the given interface and all the proxies that it uses.
+     * Nothing is written to the output directory if any of them fail.
+     */
+    public void precompile(Class<? extends ReflectiveProxyObject> interfaceClass) throws IOException {
+        if (precompiled.contains(interfaceClass)) return;
+
+        Path absoluteOutput = output.toAbsolutePath();
+        Path parent = absoluteOutput.getParent();
+        // Next to the output directory, so the files can be moved atomically.
+        Path staging = Files.createTempDirectory(parent == null ? absoluteOutput : parent, ".xreflectasm-");
+        Set<Class<?>> previous = new HashSet<>(precompiled);
+        try {
+            generate(interfaceClass, staging);
+            commit(staging);
+        } catch (IOException | RuntimeException | Error ex) {
+            precompiled.retainAll(previous);
+            throw ex;
+        } finally {
+            deleteRecursively(staging);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void generate(Class<? extends ReflectiveProxyObject> interfaceClass, Path staging) throws IOException {
+        if (!precompiled.add(interfaceClass)) return;
+
+        ReflectiveAnnotationProcessor processor = new ReflectiveAnnotationProcessor(interfaceClass);
+        processor.process(ASMPrecompiledProxies::descriptorProcessor);
+        String fingerprint = ASMPrecompiledProxies.fingerprint(interfaceClass, processor.getTargetClass(), processor.getMapped());
+
+        // The generated class is loaded by ASMPrecompiledProxies in its own class loader.
+        XReflectASM<?> asm = new XReflectASM<>(interfaceClass, processor.getTargetClass(), processor.getMapped(), ASMHostDefiner.Mode.ISOLATED);
+        asm.verify(true);
+
+        String generatedClassName = asm.getGeneratedClassBinaryName();
+        Path classFile = staging.resolve(ASMPrecompiledProxies.RESOURCE_ROOT + fingerprint + '/' + generatedClassName.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, asm.getBytecode());
+
+        // Merged with the variants that were generated for other server versions and mappings.
+        String variantsName = ASMPrecompiledProxies.RESOURCE_ROOT + interfaceClass.getName();
+        Path variantsFile = staging.resolve(variantsName);
+        Map<String, String> variants = new TreeMap<>(readVariants(output.resolve(variantsName)));
+        variants.put(fingerprint, generatedClassName);
+        Files.createDirectories(variantsFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(variantsFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> variant : variants.entrySet()) {
+                writer.write(variant.getKey() + ' ' + variant.getValue());
+                writer.newLine();
+            }
+        }
+
+        // Precompiled classes can only use other precompiled classes.
+        for (OverloadedMethod<ProxyMethodInfo> overloads : processor.getMapped().mappings().values()) {
+            for (ProxyMethodInfo overload : overloads.getOverloads()) {
+                List<MappedType> types = new ArrayList<>(Arrays.asList(overload.pTypes));
+                types.add(overload.rType);
+                for (MappedType type : types) {
+                    if (type.synthetic != interfaceClass && ReflectiveProxyObject.class.isAssignableFrom(type.synthetic)) {
+                        generate((Class<? extends ReflectiveProxyObject>) type.synthetic, staging);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the generated files to the output directory. The class files are moved before the variant files,
+     * so a variant file never refers to a class that isn't there yet.
+     */
+    private void commit(Path staging) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(staging)) {
+            files = walk.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparing(x -> !x.toString().endsWith(".class")))
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            Path target = output.resolve(staging.relativize(file).toString());
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) return;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            List<Path> paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            for (Path path : paths) Files.deleteIfExists(path);
+        }
+    }
+
+    private static Map<String, String> readVariants(Path variantsFile) throws IOException {
+        Map<String, String> variants = new HashMap<>();
+        if (!Files.exists(variantsFile)) return variants;
+
+        for (String line : Files.readAllLines(variantsFile, StandardCharsets.UTF_8)) {
+            int space = line.indexOf(' ');
+            if (space != -1) variants.put(line.substring(0, space), line.substring(space + 1).trim());
+        }
+        return variants;
+    }
+
+    private static List<Class<? extends ReflectiveProxyObject>> scan(Path classesDirectory, ClassLoader loader) throws IOException {
+        List<Class<? extends ReflectiveProxyObject>> found = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            files.filter(x -> x.toString().endsWith(".class")).forEach(file -> {
+                String relative = classesDirectory.relativize(file).toString();
+                String className = relative.substring(0, relative.length() - ".class".length())
+                        .replace('/', '.').replace('\\', '.');
+
+                Class<? extends ReflectiveProxyObject> proxy = asProxyInterface(className, loader, false);
+                if (proxy != null) found.add(proxy);
+            });
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends ReflectiveProxyObject> asProxyInterface(String className, ClassLoader loader, boolean required) {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(className, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            if (required) throw new IllegalArgumentException("Cannot find proxy interface: " + className, e);
+            return null;
+        }
+
+        if (clazz.isInterface() && clazz != ReflectiveProxyObject.class
+                && ReflectiveProxyObject.class.isAssignableFrom(clazz)
+                && clazz.isAnnotationPresent(Proxify.class)) {
+            return (Class<? extends ReflectiveProxyObject>) clazz;
+        }
+
+        if (required) throw new IllegalArgumentException("Not a @Proxify interface: " + clazz);
+        return null;
+    }
+}
@@ -28,8 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.*;
 
 import static com.cryptomorin.xseries.reflection.XReflection.ofMinecraft;
 import static com.cryptomorin.xseries.reflection.XReflection.v;
@@ -92,6 +91,24 @@ public final class MinecraftConnection {
             .map(MinecraftMapping.OBFUSCATED, v(1, 20, 2, "b").v(1, 18, "a").orElse("sendPacket"))
             .unreflect();
 
+    /**
+     * The maximum amount of packets that the client accepts in a single bundle.
+     * {@code net.minecraft.network.protocol.BundlerInfo.BUNDLE_SIZE_LIMIT}
+     */
+    public static final int BUNDLE_SIZE_LIMIT = 4096;
+
+    /**
+     * {@code ClientboundBundlePacket(Iterable<Packet<? super ClientGamePacketListener>> packets)}
+     * Bundled packets are handled by the client in the same tick and written to the channel as a single packet,
+     * which means that the connection is only flushed once for all of them.
+     * Only available in v1.19.4+
+     */
+    private static final MethodHandle BUNDLE_PACKET = XReflection.supports(1, 19, 4) ? ofMinecraft()
+            .inPackage(MinecraftPackage.NMS, "network.protocol.game")
+            .named("ClientboundBundlePacket")
+            .constructor().parameters(Iterable.class)
+            .unreflect() : null;
+
     @NotNull
     public static Object getHandle(@NotNull Player player) {
         Objects.requireNonNull(player, "Cannot get handle of null player");
@@ -143,4 +160,96 @@ public final class MinecraftConnection {
             throw new IllegalStateException("Failed to send packet to " + player + ": " + Arrays.toString(packets), throwable);
         }
     }
+
+    /**
+     * Sends the same packets to all the given players.
+     * When possible, the packets are only encoded once and the encoded bytes are written to each player's
+     * channel, which is significantly faster than {@link #sendPacket(Player, Object...)} for packets that
+     * are sent to a large number of players at once.
+     * <p>
+     * The packets are sent normally through {@link #sendPacket(Player, Object...)} instead for players
+     * whose connection has packet listeners (e.g. ProtocolLib), a custom packet encoder or packets waiting in
+     * its send queue, and for packets that can't be pre-encoded such as bundle packets.
+     * Protocol translators that operate on the encoded bytes like ViaVersion are supported in both cases.
+     * <p>
+     * Multiple packets are sent as a single bundle when {@link #supportsBundles() supported}.
+     *
+     * @param players the players to send the packets to.
+     * @param packets the packets to send in order.
+     * @since 14.2.0
+     */
+    public static void broadcast(@NotNull Collection<? extends Player> players, @NotNull Object... packets) {
+        Objects.requireNonNull(players, () -> "Can't broadcast packets to null players: " + Arrays.toString(packets));
+        Objects.requireNonNull(packets, () -> "Can't broadcast null packets to players: " + players);
+        if (players.isEmpty() || packets.length == 0) return;
+
+        List<Object> packetList = Arrays.asList(packets);
+        for (Object packet : packetList) {
+            Objects.requireNonNull(packet, "Null packet detected between packets array");
+        }
+
+        Collection<? extends Player> remaining = players;
+        if (players.size() > 1 && PacketBroadcaster.isSupported(packetList)) {
+            remaining = PacketBroadcaster.broadcast(players, packetList);
+            if (remaining.isEmpty()) return;
+        }
+
+        Object[] bundled = bundleAll(packetList).toArray();
+        for (Player player : remaining) {
+            sendPacket(player, bundled);
+        }
+    }
+
+    /**
+     * Whether {@link #bundle(Collection)} is supported in this version.
+     *
+     * @since 14.2.0
+     */
+    public static boolean supportsBundles() {
+        return BUNDLE_PACKET != null;
+    }
+
+    /**
+     * Wraps the given packets in a single {@code ClientboundBundlePacket} which is sent and flushed as one packet.
+     * Note that bundles cannot be nested, and a bundle cannot contain more than {@link #BUNDLE_SIZE_LIMIT} packets.
+     *
+     * @param packets the packets to bundle.
+     * @return the bundle packet, or null if not supported in this version.
+     * @see #supportsBundles()
+     * @since 14.2.0
+     */
+    @Nullable
+    public static Object bundle(@NotNull Collection<?> packets) {
+        Objects.requireNonNull(packets, "Cannot bundle null packets");
+        if (BUNDLE_PACKET == null) return null;
+        if (packets.size() > BUNDLE_SIZE_LIMIT) {
+            throw new IllegalArgumentException("Cannot bundle more than " + BUNDLE_SIZE_LIMIT + " packets: " + packets.size());
+        }
+
+        try {
+            return BUNDLE_PACKET.invoke((Iterable<?>) new ArrayList<>(packets));
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Failed to bundle packets: " + packets, throwable);
+        }
+    }
+
+    /**
+     * Converts the given packets to the least amount of packets needed to send them, which is a single
+     * bundle packet for every {@link #BUNDLE_SIZE_LIMIT} packets if bundles are supported, or the same
+     * packets otherwise. The results can be safely sent to multiple players.
+     *
+     * @param packets the packets to bundle.
+     * @since 14.2.0
+     */
+    @NotNull
+    public static List<Object> bundleAll(@NotNull List<?> packets) {
+        Objects.requireNonNull(packets, "Cannot bundle null packets");
+        if (BUNDLE_PACKET == null || packets.size() <= 1) return new ArrayList<>(packets);
+
+        List<Object> bundles = new ArrayList<>((packets.size() / BUNDLE_SIZE_LIMIT) + 1);
+        for (int i = 0; i < packets.size(); i += BUNDLE_SIZE_LIMIT) {
+            bundles.add(bundle(packets.subList(i, Math.min(packets.size(), i + BUNDLE_SIZE_LIMIT))));
+        }
+        return bundles;
+    }
 }
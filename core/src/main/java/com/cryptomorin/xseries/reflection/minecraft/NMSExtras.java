@@ -462,10 +462,8 @@ public final class NMSExtras {
                 Object lightningBolt = LIGHTNING_ENTITY.invoke(world, location.getX(), location.getY(), location.getZ(), false, false);
                 Object packet = ENTITY_PACKET.invoke(lightningBolt);
 
-                for (Player player : players) {
-                    // if (sound) XSound.ENTITY_LIGHTNING_BOLT_THUNDER.record().soundPlayer().forPlayers(player).play();
-                    MinecraftConnection.sendPacket(player, packet);
-                }
+                // if (sound) XSound.ENTITY_LIGHTNING_BOLT_THUNDER.record().soundPlayer().forPlayers(players).play();
+                MinecraftConnection.broadcast(players, packet);
             } else {
                 Class<?> nmsEntityType = ofMinecraft().inPackage(MinecraftPackage.NMS, "world.entity")
                         .map(MinecraftMapping.MOJANG, "EntityType")
@@ -478,10 +476,8 @@ public final class NMSExtras {
                 Object vec3D = VEC3D.invoke(0D, 0D, 0D);
                 Object packet = ENTITY_PACKET.invoke(lightningBoltID, lightningBoltUUID, location.getX(), location.getY(), location.getZ(), 0F, 0F, lightningType, 0, vec3D);
 
-                for (Player player : players) {
-                    // if (sound) XSound.ENTITY_LIGHTNING_BOLT_THUNDER.record().soundPlayer().forPlayers(player).play();
-                    MinecraftConnection.sendPacket(player, packet);
-                }
+                // if (sound) XSound.ENTITY_LIGHTNING_BOLT_THUNDER.record().soundPlayer().forPlayers(players).play();
+                MinecraftConnection.broadcast(players, packet);
             }
         } catch (Throwable throwable) {
             throwable.printStackTrace();
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection.minecraft;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Collects packets for multiple players and sends them all at once.
+ * In v1.19.4+ all the collected packets of each player are wrapped in bundle packets
+ * (See {@link MinecraftConnection#bundleAll(List)}) so each player's connection is only
+ * written to and flushed once, and the client handles all of them in the same tick.
+ * In older versions, the packets are simply sent one by one.
+ * <p>
+ * This is useful for effects that send several packets to the same players per tick,
+ * such as particles, titles and world borders.
+ * <pre>{@code
+ * PacketBatch batch = new PacketBatch();
+ * for (Player player : players) {
+ *     batch.add(player, packet1, packet2);
+ * }
+ * batch.flush(); // or batch.flushLater(plugin);
+ * }</pre>
+ * This class is thread-safe.
+ *
+ * @since 14.2.0
+ */
+public final class PacketBatch {
+    private final Map<Player, List<Object>> queued = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    /**
+     * Queues the given packets for the player.
+     *
+     * @param player  the player to send the packets to.
+     * @param packets the packets to queue in order.
+     * @return this batch.
+     */
+    @NotNull
+    public PacketBatch add(@NotNull Player player, @NotNull Object... packets) {
+        Objects.requireNonNull(player, "Cannot queue packets for null player");
+        Objects.requireNonNull(packets, () -> "Cannot queue null packets for " + player);
+
+        synchronized (queued) {
+            List<Object> playerPackets = queued.computeIfAbsent(player, k -> new ArrayList<>());
+            for (Object packet : packets) {
+                playerPackets.add(Objects.requireNonNull(packet, "Null packet detected between packets array"));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Queues the given packets for all the players.
+     *
+     * @param players the players to send the packets to.
+     * @param packets the packets to queue in order.
+     * @return this batch.
+     */
+    @NotNull
+    public PacketBatch add(@NotNull Collection<? extends Player> players, @NotNull Object... packets) {
+        for (Player player : players) add(player, packets);
+        return this;
+    }
+
+    /**
+     * @return the amount of players that have packets queued.
+     */
+    public int size() {
+        synchronized (queued) {
+            return queued.size();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Sends all the queued packets and clears the batch.
+     * Players that are no longer online are ignored.
+     */
+    public void flush() {
+        Map<Player, List<Object>> snapshot;
+        synchronized (queued) {
+            flushScheduled = false;
+            if (queued.isEmpty()) return;
+            snapshot = new LinkedHashMap<>(queued);
+            queued.clear();
+        }
+
+        for (Map.Entry<Player, List<Object>> entry : snapshot.entrySet()) {
+            if (!entry.getKey().isOnline()) continue;
+            List<Object> packets = MinecraftConnection.bundleAll(entry.getValue());
+            MinecraftConnection.sendPacket(entry.getKey(), packets.toArray());
+        }
+    }
+
+    /**
+     * Schedules a {@link #flush()} on the next tick, if it's not already scheduled.
+     * Useful if the packets are queued from multiple places in the same tick.
+     *
+     * @param plugin the plugin to schedule the task with.
+     */
+    public void flushLater(@NotNull Plugin plugin) {
+        synchronized (queued) {
+            if (flushScheduled) return;
+            flushScheduled = true;
+        }
+        Bukkit.getScheduler().runTask(plugin, this::flush);
+    }
+}
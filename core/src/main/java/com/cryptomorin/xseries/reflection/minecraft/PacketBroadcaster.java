@@ -0,0 +1,321 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection.minecraft;
+
+import com.cryptomorin.xseries.reflection.XReflection;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import static com.cryptomorin.xseries.reflection.XReflection.ofMinecraft;
+
+/**
+ * Encodes packets once using the server's own {@code PacketEncoder} and writes duplicates of the
+ * resulting buffers to every player's channel from the {@code encoder} handler's position in the pipeline.
+ * The handlers between the encoder and the network, such as the length prepender, compression,
+ * encryption and protocol translators like ViaVersion, still handle the buffers per channel as usual.
+ * <p>
+ * Since the packets skip everything that normally runs before the encoder, this is only used for a player when:
+ * <ul>
+ *     <li>The channel is active and uses the vanilla packet encoder.</li>
+ *     <li>There are no handlers between the pipeline's tail and the encoder other than the vanilla ones,
+ *     so packet listeners (e.g. ProtocolLib or PacketEvents) that need to see the packet objects are not skipped.</li>
+ *     <li>The connection's send queue is empty, so the packets can't overtake packets that are waiting to be sent.</li>
+ * </ul>
+ * All the other players are sent the packets normally through {@link MinecraftConnection#sendPacket(Player, Object...)}.
+ *
+ * @see MinecraftConnection#broadcast(Collection, Object...)
+ */
+final class PacketBroadcaster {
+    private static final String ENCODER_HANDLER = "encoder";
+
+    /**
+     * The vanilla handlers that come after the encoder in the pipeline, which only
+     * handle packet objects that the broadcaster already takes care of (bundles and protocol changes).
+     */
+    private static final Set<String> VANILLA_OUTBOUND_HANDLERS = new HashSet<>(Arrays.asList(
+            "outbound_config", "unbundler", "packet_handler"
+    ));
+
+    /**
+     * {@code net.minecraft.network.Connection} which holds the Netty channel.
+     */
+    private static final MinecraftClassHandle Connection = ofMinecraft()
+            .inPackage(MinecraftPackage.NMS, "network")
+            .map(MinecraftMapping.MOJANG, "Connection")
+            .map(MinecraftMapping.SPIGOT, "NetworkManager");
+
+    /**
+     * Bundles are split into their packets by the {@code unbundler} handler which is placed
+     * before the encoder, so they can't be pre-encoded.
+     */
+    private static final Class<?> BUNDLE_PACKET = XReflection.supports(1, 19, 4) ? ofMinecraft()
+            .inPackage(MinecraftPackage.NMS, "network.protocol")
+            .named("BundlePacket")
+            .reflectOrNull() : null;
+
+    /**
+     * {@code ClientboundBundleDelimiterPacket()} which is what the {@code unbundler} handler
+     * writes before and after the packets of a bundle.
+     */
+    private static final MethodHandle BUNDLE_DELIMITER = XReflection.supports(1, 19, 4) ? ofMinecraft()
+            .inPackage(MinecraftPackage.NMS, "network.protocol.game")
+            .named("ClientboundBundleDelimiterPacket")
+            .constructor()
+            .reflectOrNull() : null;
+
+    private static final MethodHandle
+            CONNECTION, CHANNEL, SEND_QUEUE, IS_ACTIVE, PIPELINE, NAMES, CONTEXT, HANDLER, ALLOC, BUFFER,
+            ENCODE, RETAINED_DUPLICATE, DUPLICATE, RETAIN, RELEASE, WRITE, FLUSH;
+    private static final Class<?> PACKET_ENCODER;
+
+    static {
+        MethodHandle connection = null, channel = null, sendQueue = null, isActive = null, pipeline = null, names = null,
+                context = null, handler = null, alloc = null, buffer = null, encode = null,
+                retainedDuplicate = null, duplicate = null, retain = null, release = null, write = null, flush = null;
+        Class<?> packetEncoder = null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Class<?> connectionClass = Connection.reflect();
+            Class<?> Channel = Class.forName("io.netty.channel.Channel");
+            Class<?> ChannelPipeline = Class.forName("io.netty.channel.ChannelPipeline");
+            Class<?> ChannelHandlerContext = Class.forName("io.netty.channel.ChannelHandlerContext");
+            Class<?> ChannelHandler = Class.forName("io.netty.channel.ChannelHandler");
+            Class<?> ChannelFuture = Class.forName("io.netty.channel.ChannelFuture");
+            Class<?> ByteBufAllocator = Class.forName("io.netty.buffer.ByteBufAllocator");
+            Class<?> ByteBuf = Class.forName("io.netty.buffer.ByteBuf");
+            Class<?> MessageToByteEncoder = Class.forName("io.netty.handler.codec.MessageToByteEncoder");
+
+            connection = lookup.unreflectGetter(findFieldOfType(MinecraftConnection.ServerGamePacketListenerImpl.reflect(), connectionClass));
+            channel = lookup.unreflectGetter(findFieldOfType(connectionClass, Channel));
+            // Spigot's "queue" and Mojang's "pendingActions"
+            sendQueue = lookup.unreflectGetter(findFieldOfType(connectionClass, Queue.class));
+
+            isActive = lookup.findVirtual(Channel, "isActive", MethodType.methodType(boolean.class));
+            pipeline = lookup.findVirtual(Channel, "pipeline", MethodType.methodType(ChannelPipeline));
+            names = lookup.findVirtual(ChannelPipeline, "names", MethodType.methodType(List.class));
+            context = lookup.findVirtual(ChannelPipeline, "context", MethodType.methodType(ChannelHandlerContext, String.class));
+            handler = lookup.findVirtual(ChannelHandlerContext, "handler", MethodType.methodType(ChannelHandler));
+            alloc = lookup.findVirtual(ChannelHandlerContext, "alloc", MethodType.methodType(ByteBufAllocator));
+            write = lookup.findVirtual(ChannelHandlerContext, "write", MethodType.methodType(ChannelFuture, Object.class));
+            flush = lookup.findVirtual(ChannelHandlerContext, "flush", MethodType.methodType(ChannelHandlerContext));
+            buffer = lookup.findVirtual(ByteBufAllocator, "buffer", MethodType.methodType(ByteBuf));
+            duplicate = lookup.findVirtual(ByteBuf, "duplicate", MethodType.methodType(ByteBuf));
+            retain = lookup.findVirtual(ByteBuf, "retain", MethodType.methodType(ByteBuf));
+            release = lookup.findVirtual(ByteBuf, "release", MethodType.methodType(boolean.class));
+            try {
+                // Netty 4.1+
+                retainedDuplicate = lookup.findVirtual(ByteBuf, "retainedDuplicate", MethodType.methodType(ByteBuf));
+            } catch (NoSuchMethodException ignored) {
+            }
+
+            // protected abstract void encode(ChannelHandlerContext ctx, I msg, ByteBuf out) throws Exception;
+            // Invoked virtually, so it's dispatched to the PacketEncoder's bridge method.
+            Method encodeMethod = MessageToByteEncoder.getDeclaredMethod("encode", ChannelHandlerContext, Object.class, ByteBuf);
+            encodeMethod.setAccessible(true);
+            encode = lookup.unreflect(encodeMethod);
+
+            packetEncoder = ofMinecraft()
+                    .inPackage(MinecraftPackage.NMS, "network")
+                    .named("PacketEncoder")
+                    .reflect();
+        } catch (Throwable ex) {
+            // Incompatible server software, fallback to sending the packets normally.
+            connection = null;
+        }
+
+        CONNECTION = connection;
+        CHANNEL = channel;
+        SEND_QUEUE = sendQueue;
+        IS_ACTIVE = isActive;
+        PIPELINE = pipeline;
+        NAMES = names;
+        CONTEXT = context;
+        HANDLER = handler;
+        ALLOC = alloc;
+        BUFFER = buffer;
+        ENCODE = encode;
+        RETAINED_DUPLICATE = retainedDuplicate;
+        DUPLICATE = duplicate;
+        RETAIN = retain;
+        RELEASE = release;
+        WRITE = write;
+        FLUSH = flush;
+        PACKET_ENCODER = packetEncoder;
+    }
+
+    private PacketBroadcaster() {}
+
+    private static Field findFieldOfType(Class<?> clazz, Class<?> type) throws NoSuchFieldException {
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && field.getType() == type) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+        }
+        throw new NoSuchFieldException("No field of type " + type + " found in " + clazz);
+    }
+
+    /**
+     * Whether the packets can be encoded once in this server software.
+     * The players are still checked individually by {@link #broadcast(Collection, List)}.
+     */
+    static boolean isSupported(@NotNull List<?> packets) {
+        if (CONNECTION == null) return false;
+        if (BUNDLE_PACKET != null) {
+            for (Object packet : packets) {
+                if (BUNDLE_PACKET.isInstance(packet)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the encoder context of the player's channel if the packets can be written to it directly.
+     */
+    @Nullable
+    private static Object getEncoderContext(Player player) throws Throwable {
+        Object listener = MinecraftConnection.getConnection(player);
+        if (listener == null) return null;
+
+        Object connection = CONNECTION.invoke(listener);
+        if (connection == null) return null;
+
+        // Packets that are waiting to be sent must be sent first.
+        Queue<?> queue = (Queue<?>) SEND_QUEUE.invoke(connection);
+        if (queue != null && !queue.isEmpty()) return null;
+
+        Object channel = CHANNEL.invoke(connection);
+        if (channel == null || !(boolean) IS_ACTIVE.invoke(channel)) return null;
+
+        Object pipeline = PIPELINE.invoke(channel);
+        Object ctx = CONTEXT.invoke(pipeline, ENCODER_HANDLER);
+        if (ctx == null) return null;
+
+        // Some plugins replace the encoder with their own, which may write different data for each player.
+        Object encoder = HANDLER.invoke(ctx);
+        if (encoder == null || encoder.getClass() != PACKET_ENCODER) return null;
+
+        // Packet listeners are added after the encoder, so they'd never see the packets.
+        @SuppressWarnings("unchecked")
+        List<String> names = (List<String>) NAMES.invoke(pipeline);
+        for (int i = names.indexOf(ENCODER_HANDLER) + 1; i < names.size(); i++) {
+            if (!VANILLA_OUTBOUND_HANDLERS.contains(names.get(i))) return null;
+        }
+        return ctx;
+    }
+
+    /**
+     * Encodes the packets once and writes them to all the supported players in order, then flushes each channel once.
+     * If there are multiple packets, they're wrapped between bundle delimiters when supported.
+     *
+     * @return the players that the packets couldn't be written to and need to be sent the packets normally.
+     */
+    @NotNull
+    static List<Player> broadcast(@NotNull Collection<? extends Player> players, @NotNull List<?> packets) {
+        List<Player> remaining = new ArrayList<>();
+        List<Object> contexts = new ArrayList<>(players.size());
+
+        try {
+            for (Player player : players) {
+                Object ctx = getEncoderContext(player);
+                if (ctx == null) remaining.add(player);
+                else contexts.add(ctx);
+            }
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to get the channels of " + players, ex);
+        }
+
+        // Not worth encoding the packets separately for a single player.
+        if (contexts.size() < 2) {
+            remaining.clear();
+            remaining.addAll(players);
+            return remaining;
+        }
+
+        List<Object> sequence = new ArrayList<>(packets.size() + 2);
+        if (BUNDLE_DELIMITER != null && packets.size() > 1 && packets.size() <= MinecraftConnection.BUNDLE_SIZE_LIMIT) {
+            try {
+                Object delimiter = BUNDLE_DELIMITER.invoke();
+                sequence.add(delimiter);
+                sequence.addAll(packets);
+                sequence.add(delimiter);
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Failed to create bundle delimiter", ex);
+            }
+        } else {
+            sequence.addAll(packets);
+        }
+
+        List<Object> buffers = new ArrayList<>(sequence.size());
+        try {
+            Object encoderContext = contexts.get(0);
+            Object allocator = ALLOC.invoke(encoderContext);
+            Object encoder = HANDLER.invoke(encoderContext);
+            for (Object packet : sequence) {
+                Object buf = BUFFER.invoke(allocator);
+                buffers.add(buf);
+                ENCODE.invoke(encoder, encoderContext, packet, buf);
+            }
+
+            for (Object ctx : contexts) {
+                for (Object buf : buffers) {
+                    Object duplicate = RETAINED_DUPLICATE != null
+                            ? RETAINED_DUPLICATE.invoke(buf)
+                            : RETAIN.invoke(DUPLICATE.invoke(buf));
+                    try {
+                        // Writing from the encoder's context only passes the buffer to the handlers before it.
+                        // Netty releases the buffer itself if the write fails later.
+                        WRITE.invoke(ctx, duplicate);
+                    } catch (Throwable ex) {
+                        RELEASE.invoke(duplicate);
+                        throw ex;
+                    }
+                }
+                FLUSH.invoke(ctx);
+            }
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to broadcast packets " + packets + " to " + players, ex);
+        } finally {
+            for (Object buf : buffers) {
+                try {
+                    RELEASE.invoke(buf);
+                } catch (Throwable ignored) {
+                }
+            }
+        }
+
+        return remaining;
+    }
+}
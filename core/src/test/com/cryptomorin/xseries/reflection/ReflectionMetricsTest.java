@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package com.cryptomorin.xseries.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ReflectionMetricsTest {
+    private static ReflectionMetrics.Snapshot record(long... latencies) {
+        ReflectionMetrics.HandleStats stats = new ReflectionMetrics.HandleStats("test");
+        for (long latency : latencies) {
+            stats.start();
+            stats.recordElapsed(latency);
+        }
+        return stats.snapshot();
+    }
+
+    @Test
+    void percentiles() {
+        long[] latencies = new long[100];
+        // 90 fast calls in [64, 128), 9 slower calls in [512, 1024) and a single outlier in [2^19, 2^20)
+        Arrays.fill(latencies, 0, 90, 100);
+        Arrays.fill(latencies, 90, 99, 1000);
+        latencies[99] = 1_000_000;
+        ReflectionMetrics.Snapshot snapshot = record(latencies);
+
+        assertEquals(100, snapshot.getInvocations());
+        assertEquals(90 * 100 + 9 * 1000 + 1_000_000, snapshot.getTotalNanos());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(10_180, snapshot.getAverageNanos());
+
+        long[] histogram = snapshot.getHistogram();
+        assertEquals(90, histogram[6]);
+        assertEquals(9, histogram[9]);
+        assertEquals(1, histogram[19]);
+        assertEquals(100, Arrays.stream(histogram).sum());
+
+        assertEquals(128, snapshot.getPercentile(0));
+        assertEquals(128, snapshot.getPercentile(50));
+        assertEquals(128, snapshot.getPercentile(90));
+        assertEquals(1024, snapshot.getPercentile(91));
+        assertEquals(1024, snapshot.getPercentile(99));
+        assertEquals(1 << 20, snapshot.getPercentile(100));
+
+        // The bounds are exclusive upper bounds of the bucket the recorded latencies fall in.
+        for (long latency : latencies) {
+            assertTrue(latency < snapshot.getPercentile(100));
+        }
+    }
+
+    @Test
+    void edgeCases() {
+        ReflectionMetrics.Snapshot empty = record();
+        assertEquals(0, empty.getPercentile(99));
+        assertEquals(0, empty.getAverageNanos());
+
+        ReflectionMetrics.Snapshot zero = record(0, 1);
+        assertEquals(2, zero.getHistogram()[0]);
+        assertEquals(2, zero.getPercentile(100));
+
+        ReflectionMetrics.Snapshot max = record(Long.MAX_VALUE);
+        assertEquals(1, max.getHistogram()[62]);
+        // The upper bound of the last bucket, 2^63, doesn't fit in a long.
+        assertEquals(Long.MAX_VALUE, max.getPercentile(100));
+
+        assertThrows(IllegalArgumentException.class, () -> empty.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> empty.getPercentile(101));
+    }
+}
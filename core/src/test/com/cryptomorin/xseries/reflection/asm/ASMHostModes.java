@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.reflection.asm;
+
+import com.cryptomorin.xseries.reflection.proxy.ReflectiveProxyObject;
+import com.cryptomorin.xseries.reflection.proxy.processors.ReflectiveAnnotationProcessor;
+
+/**
+ * Lets tests generate proxies in a specific {@link ASMHostDefiner.Mode}, even if it's not the best mode
+ * that the target class supports. The modes are passed by name since {@link ASMHostDefiner.Mode} isn't public.
+ */
+public final class ASMHostModes {
+    private ASMHostModes() {}
+
+    /**
+     * Whether the given mode can be used to define the proxy of this interface in the current environment.
+     */
+    public static boolean isSupported(Class<? extends ReflectiveProxyObject> interfaceClass, String mode) {
+        ReflectiveAnnotationProcessor processor = new ReflectiveAnnotationProcessor(interfaceClass);
+        processor.process(ASMPrecompiledProxies::descriptorProcessor);
+
+        ASMHostDefiner.Mode best = ASMHostDefiner.resolveMode(processor.getTargetClass(),
+                interfaceClass, ReflectiveProxyObject.class, ASMPrivateLookup.class);
+        // Modes are ordered from the most to the least privileged.
+        return ASMHostDefiner.Mode.valueOf(mode).ordinal() >= best.ordinal();
+    }
+
+    public static <T extends ReflectiveProxyObject> XReflectASM<T> proxify(Class<T> interfaceClass, String mode) {
+        ReflectiveAnnotationProcessor processor = new ReflectiveAnnotationProcessor(interfaceClass);
+        processor.process(ASMPrecompiledProxies::descriptorProcessor);
+        return new XReflectASM<>(interfaceClass, processor.getTargetClass(), processor.getMapped(), ASMHostDefiner.Mode.valueOf(mode));
+    }
+}
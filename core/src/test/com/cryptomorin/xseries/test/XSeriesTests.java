@@ -27,8 +27,11 @@ import com.cryptomorin.xseries.art.XArt;
 import com.cryptomorin.xseries.base.XBase;
 import com.cryptomorin.xseries.base.XRegistry;
 import com.cryptomorin.xseries.messages.ActionBar;
+import com.cryptomorin.xseries.messages.MessageComponents;
 import com.cryptomorin.xseries.messages.Titles;
 import com.cryptomorin.xseries.particles.ParticleDisplay;
+import com.cryptomorin.xseries.particles.ParticleShape;
+import com.cryptomorin.xseries.particles.Particles;
 import com.cryptomorin.xseries.particles.XParticle;
 import com.cryptomorin.xseries.profiles.PlayerProfiles;
 import com.cryptomorin.xseries.profiles.builder.XSkull;
@@ -57,6 +60,7 @@ import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Painting;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ColorableArmorMeta;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -79,7 +83,9 @@ import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static com.cryptomorin.xseries.test.util.XLogger.log;
@@ -112,8 +118,13 @@ public final class XSeriesTests {
         testXPotion();
         testXEnchantment();
         testXItemStack();
+        testAddItems();
+        testStack();
+        testItemEdit();
         testXAttribute();
         testXParticle();
+        testParticleShape();
+        testMessages();
 
         testXTag();
         wrapperTest();
@@ -197,6 +208,30 @@ public final class XSeriesTests {
         }
     }
 
+    @SuppressWarnings("deprecation")
+    private static void testMessages() {
+        log("Testing Titles and ActionBar broadcasts...");
+        List<Player> players = new ArrayList<>(Bukkit.getOnlinePlayers());
+        try {
+            // Two players, so the packets are broadcast instead of being sent to a single player.
+            players.add(FakePlayerFactory.createPlayer());
+            players.add(FakePlayerFactory.createPlayer());
+        } catch (Throwable e) {
+            log("Failed to create fake players, only testing with online players: " + players);
+        }
+
+        Assertions.assertThrows(NullPointerException.class, () -> Titles.sendTitle((Collection<Player>) null, 10, 20, 10,
+                MessageComponents.ofNullable("Title"), MessageComponents.ofNullable("subtitle")));
+        Titles.sendTitle(Collections.emptyList(), 10, 20, 10,
+                MessageComponents.ofNullable("Title"), MessageComponents.ofNullable("subtitle"));
+
+        Titles.sendTitle(players, 10, 20, 10, MessageComponents.ofNullable("Title"), null);
+        new Titles("Title", "subtitle", 10, 20, 10).send(players);
+
+        ActionBar.sendPlayersActionBar("Hello!");
+        Assertions.assertThrows(NullPointerException.class, () -> ActionBar.sendPlayersActionBar(null));
+    }
+
     private static String getMavenProjectVersion() {
         Properties props = new Properties();
         try (InputStream in = XSeriesTests.class.getResourceAsStream("/xseries.properties")) {
@@ -262,7 +297,79 @@ public final class XSeriesTests {
                     .rotate(90, 90, 90).withCount(-1).offset(5, 5, 5).withExtra(1).forceSpawn(true)
                             .spawn();
             ParticleDisplay.of(XParticle.DRAGON_BREATH).withCount(10).spawn(getRandomLocation());
+            if (XReflection.supports(1, 13)) {
+                // Custom data may change between spawns, so it shouldn't be reused from the previous spawn.
+                int[] resolved = {0};
+                ParticleDisplay changing = ParticleDisplay.of(XParticle.DUST).withData(new ParticleDisplay.ParticleData() {
+                    @Override
+                    public Object data(ParticleDisplay display) {
+                        resolved[0]++;
+                        return new Particle.DustOptions(org.bukkit.Color.fromRGB(resolved[0] * 50, 0, 0), 1f);
+                    }
+
+                    @Override
+                    public void serialize(ConfigurationSection section) {
+                    }
+                });
+                changing.spawn(getRandomLocation());
+                changing.spawn(getRandomLocation());
+                assertEquals(2, resolved[0], "Custom particle data wasn't resolved again");
+                assertTrue(new ParticleDisplay.RGBParticleColor(255, 0, 0).isCacheable());
+            }
+
+            log("Testing fractals...");
+            Particles.mandelbrot(5, 1, 0.1, 3, 0, 1000, ParticleDisplay.of(XParticle.FLAME).withLocation(getRandomLocation()));
+            Particles.julia(5, 1, 100, 0, 0, ParticleDisplay.of(XParticle.DUST).withLocation(getRandomLocation()));
+            assertTrue(Particles.mandelbrot(5, 1, 0.1, 3, 0, 1000).size() > 0);
+            // -5 to 5 with a 0.1 step accumulates to 101 points in each axis.
+            ParticleShape julia = Particles.julia(5, 1, 100, 0, 0);
+            assertEquals(101 * 101, julia.size());
+            assertSame(julia, Particles.julia(5, 1, 100, 0, 0));
+            assertNotSame(Particles.julia(5, 1, 100, 0, 0, false), Particles.julia(5, 1, 100, 0, 0, false));
+
+            // Each row is a different x coordinate of the set, so the rows shouldn't all be the same.
+            boolean variesByRow = false;
+            for (int row = 1; row < 101 && !variesByRow; row++) {
+                variesByRow = julia.getColor(row * 101 + 75) != julia.getColor(75);
+            }
+            assertTrue(variesByRow, "Julia set rows are all the same");
+        }
+    }
+
+    private static void testParticleShape() {
+        log("Testing ParticleShape...");
+        int points = 500;
+        ParticleShape.Builder builder = new ParticleShape.Builder();
+        for (int i = 0; i < points; i++) {
+            builder.add(i, i * 2, i * 3);
+            if (i % 3 == 0) builder.direction(-i, -i * 2, -i * 3);
+            if (i % 5 == 0) builder.color(i);
         }
+
+        ParticleShape shape = builder.build();
+        assertEquals(points, shape.size());
+        for (int i = 0; i < points; i++) {
+            assertEquals(i, shape.getX(i));
+            assertEquals(i * 2, shape.getY(i));
+            assertEquals(i * 3, shape.getZ(i));
+
+            assertEquals(i % 3 == 0, shape.hasDirection(i));
+            if (i % 3 == 0) {
+                assertEquals(-i, shape.getDirectionX(i));
+                assertEquals(-i * 2, shape.getDirectionY(i));
+                assertEquals(-i * 3, shape.getDirectionZ(i));
+            }
+            assertEquals(i % 5 == 0 ? i : 0, shape.getColor(i));
+        }
+
+        List<Object> key = Arrays.asList("test", points);
+        assertSame(shape, ParticleShape.cached(key, () -> shape));
+        assertSame(shape, ParticleShape.cached(key, () -> {
+            throw new AssertionFailedError("Cached shape was computed again");
+        }));
+        ParticleShape.clearCache();
+        assertNotSame(shape, ParticleShape.cached(key, builder::build));
+        ParticleShape.clearCache();
     }
 
     @SuppressWarnings("unchecked")
@@ -389,6 +496,35 @@ public final class XSeriesTests {
         assertSame(XMaterial.matchXMaterial("CLAY_BRICK"), XMaterial.BRICK);
         assertMaterial("MELON", "MELON");
 
+        assertEquals(Material.DIAMOND_SWORD.getMaxDurability(), XMaterial.DIAMOND_SWORD.getMaxDurability());
+        assertEquals(Material.ENDER_PEARL.getMaxStackSize(), XMaterial.ENDER_PEARL.getMaxStackSize());
+        assertTrue(XMaterial.CAVE_AIR.isAir());
+        assertTrue(XMaterial.STONE.isBlock() && XMaterial.STONE.isSolid() && XMaterial.STONE.isOccluding());
+        assertFalse(XMaterial.DIAMOND.isBlock());
+        assertFalse(XMaterial.WATER.isDisplayable());
+
+        ItemStack stone = XMaterial.STONE.parseItem();
+        assertNotSame(stone, XMaterial.STONE.parseItem());
+        assertTrue(XMaterial.STONE.isSimilarItem(stone));
+        assertFalse(XMaterial.STONE.isSimilarItem(null));
+        assertFalse(XMaterial.DIRT.isSimilarItem(stone));
+
+        // Modifying a parsed item must not affect the next ones.
+        ItemMeta stoneMeta = stone.getItemMeta();
+        stoneMeta.setDisplayName("Modified");
+        stone.setItemMeta(stoneMeta);
+        stone.setAmount(5);
+        assertFalse(XMaterial.STONE.isSimilarItem(stone));
+        assertTrue(XMaterial.STONE.isSimilar(stone));
+        assertFalse(XMaterial.STONE.parseItem().hasItemMeta());
+        assertEquals(1, XMaterial.STONE.parseItem().getAmount());
+
+        Inventory inventory = Bukkit.createInventory(null, 9);
+        inventory.setItem(0, XMaterial.STONE.parseItem());
+        ItemStack craftStone = inventory.getItem(0);
+        assertNotSame(ItemStack.class, craftStone.getClass());
+        assertTrue(XMaterial.STONE.isSimilarItem(craftStone), () -> craftStone + " is not similar to " + XMaterial.STONE);
+
         assertMaterial("COMMAND_BLOCK", XMaterial.COMMAND_BLOCK);
         assertMaterial("STEP:1", XMaterial.SANDSTONE_SLAB);
         assertMaterial("WOOD_BUTTON", XMaterial.OAK_BUTTON);
@@ -505,8 +641,260 @@ public final class XSeriesTests {
                                 + "\n\nSerialized:   " + dual.serialized
                                 + "\n\nDeserialized: " + dual.deserialized
                                 + "\n\nRe-deserialized: " + redeserializedItem + "\n\n");
+
+                ItemStack decodedItem = binaryRoundTrip(dual.serialized);
+                assertTrue(dual.serialized.isSimilar(decodedItem),
+                        () -> "Items for binary encoded '" + entry.getKey() + "' are not similar:"
+                                + "\n\nSerialized: " + dual.serialized
+                                + "\n\nDecoded:    " + decodedItem + "\n\n");
+            }
+        }
+
+        // A missing section shouldn't stop the rest of the items from being deserialized.
+        Map<String, ConfigurationSection> sections = new LinkedHashMap<>();
+        for (String key : serializeConfig.getKeys(false)) {
+            sections.put(key, serializeConfig.getConfigurationSection(key));
+            if (sections.size() == 1) sections.put("missing", null);
+        }
+        XItemStack.BulkDeserialization bulk = XItemStack.deserializeAll(sections);
+        assertFalse(bulk.isSuccessful());
+        assertEquals(Collections.singleton("missing"), bulk.getErrors().keySet());
+        assertInstanceOf(NullPointerException.class, bulk.getErrors().get("missing"));
+        assertEquals(sections.size() - 1, bulk.getItems().size());
+        for (Map.Entry<String, ItemStack> entry : bulk.getItems().entrySet()) {
+            ItemStack expected = XItemStack.deserialize(sections.get(entry.getKey()));
+            assertTrue(expected.isSimilar(entry.getValue()),
+                    () -> "Bulk deserialized item '" + entry.getKey() + "' is not similar:"
+                            + "\n\nDeserialized:      " + expected
+                            + "\n\nBulk deserialized: " + entry.getValue() + "\n\n");
+        }
+
+        // Longer than what DataOutput#writeUTF supports.
+        char[] longLine = new char[70_000];
+        Arrays.fill(longLine, '\u00e9');
+        ItemStack longLore = createItem(XMaterial.PAPER, meta -> meta.setLore(Collections.singletonList(new String(longLine))));
+        assertTrue(longLore.isSimilar(binaryRoundTrip(longLore)), "Binary encoded item with a long lore line is not similar");
+    }
+
+    /**
+     * Counts the {@link #setItemMeta(ItemMeta)} calls after the item is created.
+     */
+    private static final class MetaTrackingItemStack extends ItemStack {
+        private final boolean created;
+        private int metaUpdates;
+
+        private MetaTrackingItemStack(ItemStack item) {
+            super(item);
+            this.created = true;
+        }
+
+        @Override
+        public boolean setItemMeta(ItemMeta itemMeta) {
+            if (created) metaUpdates++;
+            return super.setItemMeta(itemMeta);
+        }
+    }
+
+    private static void testItemEdit() {
+        log("Testing XItemStack.Deserializer#edit...");
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("material", "DIAMOND_SWORD");
+        config.set("name", "Sword");
+        config.set("lore", Arrays.asList("Line 1", "Line 2"));
+        config.set("enchants.SHARPNESS", 2);
+
+        MetaTrackingItemStack item = new MetaTrackingItemStack(XItemStack.deserializer().fromConfig(config).deserialize());
+        ItemStack original = item.clone();
+
+        Set<XItemStack.EditedProperty> unchanged = XItemStack.deserializer().modifyItem(item).fromConfig(config).edit();
+        assertTrue(unchanged.isEmpty(), () -> "Edited properties of an unchanged item: " + unchanged);
+        assertEquals(0, item.metaUpdates, "The meta of an unchanged item was set");
+        assertTrue(original.isSimilar(item));
+
+        config.set("lore", Arrays.asList("Line 1", "Line 3"));
+        Set<XItemStack.EditedProperty> loreOnly = XItemStack.deserializer().modifyItem(item).fromConfig(config).edit();
+        assertEquals(EnumSet.of(XItemStack.EditedProperty.LORE), loreOnly);
+        assertEquals(1, item.metaUpdates);
+
+        ItemMeta meta = item.getItemMeta();
+        assertEquals(Arrays.asList("Line 1", "Line 3"), meta.getLore());
+        assertEquals("Sword", meta.getDisplayName());
+        assertEquals(2, meta.getEnchantLevel(XEnchantment.SHARPNESS.get()));
+        assertSame(XMaterial.DIAMOND_SWORD.get(), item.getType());
+
+        config.set("amount", 3);
+        assertEquals(EnumSet.of(XItemStack.EditedProperty.AMOUNT), XItemStack.deserializer().modifyItem(item).fromConfig(config).edit());
+        assertEquals(3, item.getAmount());
+        config.set("amount", 1);
+        assertEquals(EnumSet.of(XItemStack.EditedProperty.AMOUNT), XItemStack.deserializer().modifyItem(item).fromConfig(config).edit());
+        assertEquals(1, item.getAmount());
+        assertEquals(1, item.metaUpdates);
+
+        config.set("enchants", null);
+        assertEquals(EnumSet.of(XItemStack.EditedProperty.META), XItemStack.deserializer().modifyItem(item).fromConfig(config).edit());
+        assertFalse(item.getItemMeta().hasEnchants(), () -> "Removed enchantments were not removed from the item: " + item);
+        assertEquals(2, item.metaUpdates);
+    }
+
+    private static ItemStack binaryRoundTrip(ItemStack item) {
+        try {
+            List<ItemStack> decoded = XItemStack.BinaryCodec.fromBytes(XItemStack.BinaryCodec.toBytes(Arrays.asList(item, null)));
+            assertEquals(2, decoded.size());
+            assertNull(decoded.get(1));
+            return decoded.get(0);
+        } catch (IOException e) {
+            throw new AssertionFailedError("Failed to decode binary item: " + item, e);
+        }
+    }
+
+    private static void testAddItems() {
+        log("Testing XItemStack.addItems...");
+        ItemStack stone = XMaterial.STONE.parseItem();
+        ItemStack namedStone = createItem(XMaterial.STONE, meta -> meta.setDisplayName("Named"));
+        ItemStack dirt = XMaterial.DIRT.parseItem();
+        ItemStack sword = XMaterial.DIAMOND_SWORD.parseItem();
+
+        ItemStack[] full = new ItemStack[27];
+        Arrays.fill(full, withAmount(stone, 64));
+        assertAddItems("full", full, false, null, withAmount(stone, 5), withAmount(dirt, 10));
+
+        ItemStack[] mixed = new ItemStack[27];
+        mixed[1] = withAmount(stone, 30);
+        mixed[3] = withAmount(dirt, 10);
+        mixed[4] = withAmount(namedStone, 20);
+        mixed[6] = withAmount(stone, 63);
+        mixed[10] = withAmount(sword, 1);
+        for (int slot = 12; slot < 27; slot++) mixed[slot] = withAmount(dirt, 64);
+        assertAddItems("mixed partials", mixed, false, null,
+                withAmount(stone, 100), withAmount(dirt, 60), withAmount(namedStone, 50), withAmount(stone, 40));
+
+        assertAddItems("split", mixed, true, null, withAmount(sword, 3), withAmount(stone, 200));
+        assertAddItems("no split", mixed, false, null, withAmount(sword, 3), withAmount(stone, 200));
+        assertAddItems("modifiable slots", mixed, false, slot -> slot % 2 == 0,
+                withAmount(stone, 100), withAmount(dirt, 20), withAmount(namedStone, 10));
+    }
+
+    private static void testStack() {
+        log("Testing XItemStack.stack...");
+        ItemStack[] pool = {
+                XMaterial.STONE.parseItem(),
+                createItem(XMaterial.STONE, meta -> meta.setDisplayName("Named")),
+                XMaterial.DIRT.parseItem(),
+                XMaterial.DIAMOND_SWORD.parseItem(),
+                null
+        };
+
+        Random random = new Random(42);
+        List<ItemStack> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ItemStack item = pool[random.nextInt(pool.length)];
+            items.add(item == null ? null : withAmount(item, 1 + random.nextInt(10)));
+        }
+        // Air items are skipped, but changing their amount isn't allowed on some versions.
+        items.add(250, XMaterial.AIR.parseItem());
+
+        assertStack("similar", items, ItemStack::getType, ItemStack::isSimilar);
+        assertStack("same type", items, ItemStack::getType, (first, second) -> first.getType() == second.getType());
+        assertStack("same key", items, item -> 0, ItemStack::isSimilar);
+    }
+
+    /**
+     * Compares {@link XItemStack#stack(Collection, Function, BiPredicate, boolean)} with {@link XItemStack#stack(Collection, BiPredicate)}
+     * both sequentially and in parallel.
+     */
+    private static void assertStack(String name, List<ItemStack> items, Function<ItemStack, ?> key,
+                                    BiPredicate<ItemStack, ItemStack> similarity) {
+        List<ItemStack> expected = XItemStack.stack(items, similarity);
+        for (boolean parallel : new boolean[]{false, true}) {
+            List<ItemStack> actual = XItemStack.stack(items, key, similarity, parallel);
+            assertEquals(expected, actual, () -> "Stacked items of '" + name + "' don't match (parallel=" + parallel + ')');
+        }
+    }
+
+    private static ItemStack withAmount(ItemStack item, int amount) {
+        ItemStack copy = item.clone();
+        copy.setAmount(amount);
+        return copy;
+    }
+
+    private static ItemStack[] cloneItems(ItemStack[] items) {
+        ItemStack[] copy = new ItemStack[items.length];
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] != null) copy[i] = items[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Compares {@link XItemStack#addItems(Inventory, boolean, Predicate, ItemStack...)} with {@link #legacyAddItems(Inventory, boolean, Predicate, ItemStack...)}.
+     */
+    private static void assertAddItems(String name, ItemStack[] contents, boolean split,
+                                       Predicate<Integer> modifiableSlots, ItemStack... items) {
+        Inventory expected = Bukkit.createInventory(null, contents.length);
+        Inventory actual = Bukkit.createInventory(null, contents.length);
+        expected.setContents(cloneItems(contents));
+        actual.setContents(cloneItems(contents));
+
+        List<ItemStack> expectedLeftOvers = legacyAddItems(expected, split, modifiableSlots, cloneItems(items));
+        List<ItemStack> actualLeftOvers = XItemStack.addItems(actual, split, modifiableSlots, cloneItems(items));
+
+        assertEquals(expectedLeftOvers, actualLeftOvers, () -> "Leftovers of '" + name + "' don't match");
+        assertArrayEquals(expected.getContents(), actual.getContents(), () -> "Contents of '" + name + "' don't match");
+    }
+
+    /**
+     * The previous implementation of {@link XItemStack#addItems(Inventory, boolean, Predicate, ItemStack...)}
+     * which searches the inventory again for every partial and empty slot.
+     */
+    private static List<ItemStack> legacyAddItems(Inventory inventory, boolean split,
+                                                  Predicate<Integer> modifiableSlots, ItemStack... items) {
+        List<ItemStack> leftOvers = new ArrayList<>(items.length);
+        int invSize = XItemStack.getStorageContents(inventory).length;
+        int lastEmpty = 0;
+
+        for (ItemStack item : items) {
+            int lastPartial = 0;
+            int maxAmount = split ? item.getMaxStackSize() : inventory.getMaxStackSize();
+
+            while (true) {
+                int firstPartial = lastPartial >= invSize ? -1 : XItemStack.firstPartial(inventory, item, lastPartial, modifiableSlots);
+                if (firstPartial == -1) {
+                    if (lastEmpty != -1) lastEmpty = XItemStack.firstEmpty(inventory, lastEmpty, modifiableSlots);
+                    if (lastEmpty == -1) {
+                        leftOvers.add(item);
+                        break;
+                    }
+
+                    lastPartial = Integer.MAX_VALUE;
+                    int amount = item.getAmount();
+                    if (amount <= maxAmount) {
+                        inventory.setItem(lastEmpty, item);
+                        break;
+                    } else {
+                        ItemStack copy = item.clone();
+                        copy.setAmount(maxAmount);
+                        inventory.setItem(lastEmpty, copy);
+                        item.setAmount(amount - maxAmount);
+                    }
+                    if (++lastEmpty == invSize) lastEmpty = -1;
+                } else {
+                    ItemStack partialItem = inventory.getItem(firstPartial);
+                    int sum = item.getAmount() + partialItem.getAmount();
+
+                    if (sum <= maxAmount) {
+                        partialItem.setAmount(sum);
+                        inventory.setItem(firstPartial, partialItem);
+                        break;
+                    } else {
+                        partialItem.setAmount(maxAmount);
+                        inventory.setItem(firstPartial, partialItem);
+                        item.setAmount(sum - maxAmount);
+                    }
+                    lastPartial = firstPartial + 1;
+                }
             }
         }
+        return leftOvers;
     }
 
     private static void deserializeItemStack(Map<String, ItemSerialDual> map) throws IOException, InvalidConfigurationException {
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.test.benchmark;
+
+import com.cryptomorin.xseries.XEnchantment;
+import com.cryptomorin.xseries.XItemStack;
+import com.cryptomorin.xseries.XMaterial;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing and reading an inventory of items using the YAML config format and {@link XItemStack.BinaryCodec}.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@Fork(0)
+public class ItemCodecBenchmark {
+    private List<ItemStack> items;
+    private String yaml;
+    private byte[] binary;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(36);
+        for (int i = 0; i < 36; i++) {
+            switch (i % 4) {
+                case 0:
+                    ItemStack sword = XMaterial.DIAMOND_SWORD.parseItem();
+                    ItemMeta meta = sword.getItemMeta();
+                    meta.setDisplayName("Sword #" + i);
+                    meta.setLore(Arrays.asList("A sharp sword", "Owned by someone", "Slot " + i));
+                    sword.setItemMeta(meta);
+                    sword.addUnsafeEnchantment(XEnchantment.SHARPNESS.get(), 5);
+                    items.add(sword);
+                    break;
+                case 1:
+                    ItemStack stone = XMaterial.STONE.parseItem();
+                    stone.setAmount(1 + RandomUtil.RANDOM.nextInt(64));
+                    items.add(stone);
+                    break;
+                case 2:
+                    items.add(XMaterial.GOLDEN_APPLE.parseItem());
+                    break;
+                default:
+                    items.add(null);
+            }
+        }
+
+        yaml = writeYaml();
+        binary = writeBinary();
+    }
+
+    @Benchmark
+    public String writeYaml() {
+        YamlConfiguration config = new YamlConfiguration();
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack item = items.get(i);
+            if (item == null) continue;
+            XItemStack.serializer().fromItem(item).toConfig(config.createSection(String.valueOf(i))).serialize();
+        }
+        return config.saveToString();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() {
+        return XItemStack.BinaryCodec.toBytes(items);
+    }
+
+    @Benchmark
+    public List<ItemStack> readYaml() throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+
+        List<ItemStack> read = new ArrayList<>(items.size());
+        for (String key : config.getKeys(false)) {
+            ConfigurationSection section = config.getConfigurationSection(key);
+            read.add(XItemStack.deserializer().fromConfig(section).deserialize());
+        }
+        return read;
+    }
+
+    @Benchmark
+    public List<ItemStack> readBinary() throws IOException {
+        return XItemStack.BinaryCodec.fromBytes(binary);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.test.benchmark;
+
+import com.cryptomorin.xseries.particles.ParticleDisplay;
+import com.cryptomorin.xseries.particles.XParticle;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of transforming shape points to their final locations.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@Fork(0)
+public class ParticleBenchmark {
+    private static final int POINTS = 2000;
+    private ParticleDisplay display;
+    private double[] points;
+
+    @Setup
+    public void setup() {
+        display = ParticleDisplay.of(XParticle.FLAME)
+                .withLocation(new Location(null, 100, 64, 100))
+                .rotate(Math.toRadians(30), Math.toRadians(45), 0);
+        display.rotate(ParticleDisplay.Rotation.of(Math.toRadians(10), ParticleDisplay.Axis.Y));
+
+        points = new double[POINTS * 3];
+        for (int i = 0; i < points.length; i++) points[i] = RandomUtil.RANDOM.nextDouble() * 5;
+    }
+
+    @Benchmark
+    public double vectorFinalizeLocation() {
+        double sum = 0;
+        for (int i = 0; i < points.length; i += 3) {
+            Location location = display.finalizeLocation(new Vector(points[i], points[i + 1], points[i + 2]));
+            sum += location.getX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double primitiveFinalizeLocation() {
+        double sum = 0;
+        for (int i = 0; i < points.length; i += 3) {
+            Location location = display.finalizeLocation(points[i], points[i + 1], points[i + 2]);
+            sum += location.getX();
+        }
+        return sum;
+    }
+}
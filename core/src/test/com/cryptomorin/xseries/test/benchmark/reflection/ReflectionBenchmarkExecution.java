@@ -62,8 +62,10 @@ import java.util.concurrent.TimeUnit;
  * benchmark was to prove that XReflection adds no overhead, except for the proxy method
  * {@link XReflection#proxify(Class)} which is expected and is fixed when using ASM-generated
  * classes.
- * Also do not that we technically should test different method signatures and field/constructor accesses too,
+ * Also do not that we technically should test different method signatures and constructor accesses too,
  * but writing these tests take some time, if anyone's willing to do it, sure.
+ * The {@code XReflection_IV_PrivateField} and {@code XReflection_IV_Private} benchmarks should be on par with
+ * {@code directField} and {@code direct} when the generated class can be defined as a nestmate of the target class.
  *
  * @see ReflectionBenchmarkSetup
  * @see ReflectionBenchmarkCommons
@@ -197,6 +199,21 @@ public class ReflectionBenchmarkExecution {
         return XREFLECTION_IV.helloPrivate(firstArg, secArg, thirdArg);
     }
 
+    @Benchmark
+    public String directField() {
+        return INSTANCE.someField;
+    }
+
+    @Benchmark
+    public String XReflection_IV_PublicField() {
+        return XREFLECTION_IV.someField();
+    }
+
+    @Benchmark
+    public String XReflection_IV_PrivateField() {
+        return XREFLECTION_IV.somePrivateField();
+    }
+
     @Benchmark
     public Optional<String> callSite() throws Throwable {
         ReflectionBenchmarkTargetMethodProxy gen = (ReflectionBenchmarkTargetMethodProxy) CALL_SITE.dynamicInvoker().invoke(INSTANCE);
@@ -26,6 +26,8 @@ import java.util.Optional;
 
 public class ReflectionBenchmarkTargetMethod {
     public String someField = "test";
+    @SuppressWarnings({"unused", "FieldMayBeFinal"})
+    private String somePrivateField = "private test";
 
     @SuppressWarnings("unused")
     private Optional<String> helloPrivate(String firstArg, int secondArg, boolean thirdArg) {
@@ -23,6 +23,7 @@
 package com.cryptomorin.xseries.test.benchmark.reflection;
 
 import com.cryptomorin.xseries.reflection.proxy.ReflectiveProxyObject;
+import com.cryptomorin.xseries.reflection.proxy.annotations.Field;
 import com.cryptomorin.xseries.reflection.proxy.annotations.Private;
 import com.cryptomorin.xseries.reflection.proxy.annotations.Proxify;
 import com.cryptomorin.xseries.reflection.proxy.annotations.ReflectName;
@@ -38,6 +39,13 @@ public interface ReflectionBenchmarkTargetMethodProxy extends ReflectiveProxyObj
 
     Optional<String> hello(String firstArg, int secondArg, boolean thirdArg);
 
+    @Field
+    String someField();
+
+    @Private
+    @Field
+    String somePrivateField();
+
     @Override
     @NotNull
     ReflectionBenchmarkTargetMethodProxy bindTo(@NotNull Object instance);
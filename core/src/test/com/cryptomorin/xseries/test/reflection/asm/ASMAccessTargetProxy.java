@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 Crypto Morin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+ * PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE
+ * FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.cryptomorin.xseries.test.reflection.asm;
+
+import com.cryptomorin.xseries.reflection.proxy.ReflectiveProxyObject;
+import com.cryptomorin.xseries.reflection.proxy.annotations.*;
+import org.jetbrains.annotations.NotNull;
+
+@Proxify(target = ASMAccessTarget.class)
+public interface ASMAccessTargetProxy extends ReflectiveProxyObject {
+    @SuppressWarnings("MethodNameSameAsClassName")
+    @Constructor
+    ASMAccessTargetProxy ASMAccessTargetProxy(String name);
+
+    @Private
+    @Field
+    String name();
+
+    @Protected
+    @Field
+    int counter();
+
+    @Protected
+    @Field
+    void counter(int value);
+
+    @Protected
+    String describe(String prefix);
+
+    @Private
+    String secret();
+
+    @Override
+    @NotNull
+    ASMAccessTargetProxy bindTo(@NotNull Object instance);
+}
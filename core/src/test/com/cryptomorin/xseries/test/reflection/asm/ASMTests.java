@@ -23,12 +23,29 @@
 package com.cryptomorin.xseries.test.reflection.asm;
 
 import com.cryptomorin.xseries.reflection.XReflection;
+import com.cryptomorin.xseries.reflection.asm.ASMHostModes;
+import com.cryptomorin.xseries.reflection.asm.ASMPrecompiledProxies;
 import com.cryptomorin.xseries.reflection.asm.XReflectASM;
+import com.cryptomorin.xseries.reflection.asm.XReflectASMPrecompiler;
 import com.cryptomorin.xseries.test.TestConstants;
 import com.cryptomorin.xseries.test.reflection.proxy.ProxyTestProxified;
 import com.cryptomorin.xseries.test.reflection.proxy.ProxyTests;
 import com.cryptomorin.xseries.test.util.XLogger;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public final class ASMTests {
     public static void test() {
         XLogger.log("[ASM] Testing XReflectASM generation...");
@@ -46,5 +63,67 @@ public final class ASMTests {
 
         if (XReflection.supports(1, 20))
             ProxyTests.minecraftProxyTest((clazz) -> XReflectASM.proxify(clazz).create());
+
+        hostModesTest();
+        precompiledTest();
+    }
+
+    /**
+     * Accesses private and package-private members through proxies that are defined next to the target class.
+     */
+    private static void hostModesTest() {
+        XLogger.log("[ASM] Testing XReflectASM host definition modes...");
+        for (String mode : new String[]{"NESTMATE", "PACKAGE"}) {
+            if (!ASMHostModes.isSupported(ASMAccessTargetProxy.class, mode)) {
+                XLogger.log("[ASM] " + mode + " mode is not supported in this environment, skipping.");
+                continue;
+            }
+
+            XReflectASM<ASMAccessTargetProxy> asm = ASMHostModes.proxify(ASMAccessTargetProxy.class, mode);
+            ASMAccessTargetProxy proxy = asm.create().ASMAccessTargetProxy("Target");
+            assertEquals("Target", proxy.name());
+            assertEquals("secret:Target", proxy.secret());
+            proxy.counter(3);
+            assertEquals(3, proxy.counter());
+            assertEquals(3, ((ASMAccessTarget) proxy.instance()).counter);
+            assertEquals(">Target3", proxy.describe(">"));
+
+            // Members that are accessible in this mode must be accessed directly instead of through MethodHandles.
+            Set<String> handles = Arrays.stream(asm.loadClass().getDeclaredFields())
+                    .map(java.lang.reflect.Field::getName)
+                    .filter(x -> x.startsWith("H_"))
+                    .collect(Collectors.toSet());
+            Set<String> expected = mode.equals("NESTMATE") ?
+                    Collections.emptySet() :
+                    new HashSet<>(Arrays.asList("H_name_getter", "H_secret"));
+            assertEquals(expected, handles, () -> mode + " mode used MethodHandles for the wrong members");
+        }
+    }
+
+    /**
+     * Precompiles a proxy into a directory and loads it back from there as resources.
+     */
+    private static void precompiledTest() {
+        XLogger.log("[ASM] Testing precompiled XReflectASM classes...");
+        try {
+            Path output = Files.createTempDirectory("xseries-precompiled-proxies");
+            new XReflectASMPrecompiler(output).precompile(ProxyTestProxified.class);
+
+            Path variants = output.resolve("META-INF/xseries/proxies/" + ProxyTestProxified.class.getName());
+            assertEquals(1, Files.readAllLines(variants).size(), "Expected a single fingerprint variant");
+
+            try (URLClassLoader resources = new URLClassLoader(new URL[]{output.toUri().toURL()}, null)) {
+                ProxyTestProxified precompiled = ASMPrecompiledProxies.load(ProxyTestProxified.class, resources);
+                assertNotNull(precompiled, "Precompiled proxy wasn't loaded, fingerprint mismatch?");
+                ProxyTests.normalProxyTest(precompiled);
+            }
+
+            // No resources, no precompiled classes.
+            try (URLClassLoader empty = new URLClassLoader(new URL[0], null)) {
+                assertNull(ASMPrecompiledProxies.load(ProxyTestProxified.class, empty));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -57,6 +57,14 @@ public final class AdventureAPIFactory {
         meta.lore(lore);
     }
 
+    public static Component displayName(ItemMeta meta) {
+        return meta.displayName();
+    }
+
+    public static List<Component> lore(ItemMeta meta) {
+        return meta.lore();
+    }
+
     public static String displayName(ItemMeta meta, Function<List<? extends Component>, List<String>> miniMessageHandler) {
         return miniMessageHandler.apply(Collections.singletonList(meta.displayName())).get(0);
     }